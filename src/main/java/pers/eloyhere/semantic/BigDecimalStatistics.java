@@ -15,6 +15,10 @@ public class BigDecimalStatistics <E> extends Statistics<E, BigDecimal> {
         super(generator, concurrent);
     }
 
+    protected BigDecimalStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected BigDecimalStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
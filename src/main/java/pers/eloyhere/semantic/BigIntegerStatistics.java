@@ -14,6 +14,10 @@ public class BigIntegerStatistics <E> extends Statistics<E, BigInteger> {
         super(generator, concurrent);
     }
 
+    protected BigIntegerStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected BigIntegerStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
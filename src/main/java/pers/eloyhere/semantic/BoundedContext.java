@@ -0,0 +1,104 @@
+package pers.eloyhere.semantic;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class BoundedContext implements ExecutionContext, AutoCloseable {
+
+    private static final AtomicLong sequence = new AtomicLong(0L);
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong saturations = new AtomicLong(0L);
+
+    private final ThreadLocal<Boolean> worker = ThreadLocal.withInitial(() -> false);
+
+    private final int threads;
+
+    private final int capacity;
+
+    BoundedContext(int threads, int capacity) {
+        if(threads < 1){
+            throw new IllegalArgumentException("Threads must be positive.");
+        }
+        if(capacity < 1){
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.threads = threads;
+        this.capacity = capacity;
+        long identity = sequence.getAndIncrement();
+        AtomicLong counter = new AtomicLong(0L);
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                1L,
+                TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(() -> {
+                        this.worker.set(true);
+                        runnable.run();
+                    }, "semantic-" + identity + "-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    if(executor.isShutdown()){
+                        throw new RejectedExecutionException("Context has been closed.");
+                    }
+                    this.saturations.incrementAndGet();
+                    runnable.run();
+                }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public long parallelism() {
+        return this.threads;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        if(this.worker.get()){
+            FutureTask<T> future = new FutureTask<>(task);
+            future.run();
+            return future;
+        }
+        return this.executor.submit(task);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.executor.execute(command);
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    public int queueDepth() {
+        return this.executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return this.executor.getActiveCount();
+    }
+
+    public long completedCount() {
+        return this.executor.getCompletedTaskCount();
+    }
+
+    public long saturations() {
+        return this.saturations.get();
+    }
+
+    public double saturation() {
+        return (double) this.queueDepth() / this.capacity;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+}
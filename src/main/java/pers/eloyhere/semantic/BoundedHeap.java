@@ -0,0 +1,110 @@
+package pers.eloyhere.semantic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+final class BoundedHeap<E> {
+
+    private final int capacity;
+
+    private final Comparator<E> comparator;
+
+    private final boolean ascending;
+
+    private Object[] elements;
+
+    private long[] indices;
+
+    private int size = 0;
+
+    BoundedHeap(int capacity, Comparator<E> comparator, boolean ascending) {
+        this.capacity = capacity;
+        this.comparator = comparator;
+        this.ascending = ascending;
+        this.elements = new Object[Math.min(capacity, 16)];
+        this.indices = new long[Math.min(capacity, 16)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(int position, Object element, long index) {
+        int result = this.comparator.compare((E) this.elements[position], (E) element);
+        if(result == 0){
+            result = Long.compare(this.indices[position], index);
+        }
+        return this.ascending ? result : -result;
+    }
+
+    void offer(E element, long index) {
+        if(this.size < this.capacity){
+            if(this.size == this.elements.length){
+                int length = (int) Math.min((long) this.size << 1, this.capacity);
+                this.elements = Arrays.copyOf(this.elements, length);
+                this.indices = Arrays.copyOf(this.indices, length);
+            }
+            this.up(this.size++, element, index);
+        }else if(this.capacity > 0 && this.compare(0, element, index) > 0){
+            this.down(0, element, index);
+        }
+    }
+
+    void merge(BoundedHeap<E> other) {
+        for(int position = 0; position < other.size; position++){
+            @SuppressWarnings("unchecked")
+            E element = (E) other.elements[position];
+            this.offer(element, other.indices[position]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<E> drain() {
+        int length = this.size;
+        Object[] sorted = new Object[length];
+        for(int last = length - 1; last >= 0; last--){
+            sorted[this.ascending ? last : length - 1 - last] = this.elements[0];
+            this.size = last;
+            if(last > 0){
+                this.down(0, this.elements[last], this.indices[last]);
+            }
+        }
+        List<E> result = new ArrayList<>(sorted.length);
+        for(Object element : sorted){
+            result.add((E) element);
+        }
+        return result;
+    }
+
+    private void up(int position, Object element, long index) {
+        while(position > 0){
+            int parent = (position - 1) >>> 1;
+            if(this.compare(parent, element, index) >= 0){
+                break;
+            }
+            this.elements[position] = this.elements[parent];
+            this.indices[position] = this.indices[parent];
+            position = parent;
+        }
+        this.elements[position] = element;
+        this.indices[position] = index;
+    }
+
+    private void down(int position, Object element, long index) {
+        int half = this.size >>> 1;
+        while(position < half){
+            int child = (position << 1) + 1;
+            int right = child + 1;
+            if(right < this.size && this.compare(right, this.elements[child], this.indices[child]) > 0){
+                child = right;
+            }
+            if(this.compare(child, element, index) <= 0){
+                break;
+            }
+            this.elements[position] = this.elements[child];
+            this.indices[position] = this.indices[child];
+            position = child;
+        }
+        this.elements[position] = element;
+        this.indices[position] = index;
+    }
+}
@@ -0,0 +1,133 @@
+package pers.eloyhere.semantic;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+final class BufferInput implements DataInput {
+
+    private ByteBuffer buffer;
+
+    private int position;
+
+    private int limit;
+
+    BufferInput(ByteBuffer buffer) {
+        this.reset(buffer, 0, buffer.limit());
+    }
+
+    void reset(ByteBuffer buffer, int position, int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    int position() {
+        return this.position;
+    }
+
+    private int advance(int length) throws EOFException {
+        if(length > this.limit - this.position){
+            throw new EOFException();
+        }
+        int position = this.position;
+        this.position += length;
+        return position;
+    }
+
+    @Override
+    public void readFully(byte[] bytes) throws IOException {
+        this.readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(byte[] bytes, int offset, int length) throws IOException {
+        this.buffer.get(this.advance(length), bytes, offset, length);
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, this.limit - this.position));
+        this.position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return this.buffer.get(this.advance(1)) != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return this.buffer.get(this.advance(1));
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return this.buffer.get(this.advance(1)) & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return this.buffer.getShort(this.advance(Short.BYTES));
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return this.buffer.getShort(this.advance(Short.BYTES)) & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return this.buffer.getChar(this.advance(Character.BYTES));
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return this.buffer.getInt(this.advance(Integer.BYTES));
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return this.buffer.getLong(this.advance(Long.BYTES));
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return this.buffer.getFloat(this.advance(Float.BYTES));
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return this.buffer.getDouble(this.advance(Double.BYTES));
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        if(this.position >= this.limit){
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        while(this.position < this.limit){
+            int c = this.buffer.get(this.position++) & 0xFF;
+            if(c == '\n'){
+                break;
+            }
+            if(c == '\r'){
+                if(this.position < this.limit && this.buffer.get(this.position) == '\n'){
+                    this.position++;
+                }
+                break;
+            }
+            builder.append((char) c);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Comparator;
 
 public class ByteStatistics<E> extends Statistics<E, Byte>{
 
+    private final Column<E, Byte, ?> column = new LongColumn<>(this.buffer, (value) -> (byte) value, (byte) 0);
+
     protected ByteStatistics(Generator<E> generator) {
         super(generator);
     }
@@ -12,6 +14,10 @@ public class ByteStatistics<E> extends Statistics<E, Byte>{
         super(generator, concurrent);
     }
 
+    protected ByteStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected ByteStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -74,4 +80,9 @@ public class ByteStatistics<E> extends Statistics<E, Byte>{
     public Byte power(Byte a, Byte b) {
         return (byte) Math.pow(a, b);
     }
+
+    @Override
+    Column<E, Byte, ?> column() {
+        return this.column;
+    }
 }
@@ -0,0 +1,99 @@
+package pers.eloyhere.semantic;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public interface Codec<E> {
+
+    public void encode(E element, DataOutput output) throws IOException;
+
+    public E decode(DataInput input) throws IOException;
+
+    public default int width(){
+        return -1;
+    }
+
+    public interface Encoder<E> {
+        public void encode(E element, DataOutput output) throws IOException;
+    }
+
+    public interface Decoder<E> {
+        public E decode(DataInput input) throws IOException;
+    }
+
+    public static <E> Codec<E> useCodec(final Encoder<E> encoder, final Decoder<E> decoder){
+        return useCodec(-1, encoder, decoder);
+    }
+
+    public static <E> Codec<E> useCodec(final int width, final Encoder<E> encoder, final Decoder<E> decoder){
+        Objects.requireNonNull(encoder, "Encoder could not be null.");
+        Objects.requireNonNull(decoder, "Decoder could not be null.");
+        return new Codec<>() {
+            @Override
+            public void encode(E element, DataOutput output) throws IOException {
+                encoder.encode(element, output);
+            }
+
+            @Override
+            public E decode(DataInput input) throws IOException {
+                return decoder.decode(input);
+            }
+
+            @Override
+            public int width() {
+                return width;
+            }
+        };
+    }
+
+    public static Codec<Long> useLong(){
+        return useCodec(Long.BYTES, (element, output) -> output.writeLong(element), DataInput::readLong);
+    }
+
+    public static Codec<Integer> useInteger(){
+        return useCodec(Integer.BYTES, (element, output) -> output.writeInt(element), DataInput::readInt);
+    }
+
+    public static Codec<Double> useDouble(){
+        return useCodec(Double.BYTES, (element, output) -> output.writeDouble(element), DataInput::readDouble);
+    }
+
+    public static Codec<String> useString(){
+        return useString(StandardCharsets.UTF_8);
+    }
+
+    public static Codec<String> useString(final Charset charset){
+        Objects.requireNonNull(charset, "Charset could not be null.");
+        return useCodec((element, output) -> {
+            byte[] bytes = element.getBytes(charset);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }, (input) -> {
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            return new String(bytes, charset);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Serializable> Codec<E> useSerializable(){
+        return useCodec((element, output) -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try(ObjectOutputStream stream = new ObjectOutputStream(buffer)){
+                stream.writeObject(element);
+            }
+            output.writeInt(buffer.size());
+            output.write(buffer.toByteArray());
+        }, (input) -> {
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            try(ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))){
+                return (E) stream.readObject();
+            }catch (ClassNotFoundException exception){
+                throw new IOException(exception);
+            }
+        });
+    }
+}
@@ -1,41 +1,29 @@
 package pers.eloyhere.semantic;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 public final class Collector <E, A, R>{
 
-    private static final Runtime runtime = Runtime.getRuntime();
-    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
-            runtime.availableProcessors(),
-            runtime.availableProcessors() * 2,
-            5L,
-            TimeUnit.MINUTES,
-            new LinkedBlockingDeque<>(),
-            runnable -> {
-                Thread thread = new Thread(runnable, "collector");
-                thread.setDaemon(true);
-                return thread;
-            }
-    );
-
     private final Supplier<A> identity;
 
-    private final IndexedInterrupt<A, E> interrupt;
+    private final PrimitiveIndexedInterrupt<A, E> interrupt;
 
-    private final IndexedAccumulator<A, E> accumulator;
+    private final PrimitiveIndexedAccumulator<A, E> accumulator;
 
     private final BiFunction<A, A, A> combiner;
 
     private final Function<A, R> finisher;
 
-    private Collector(Supplier<A> identity, IndexedInterrupt<A, E> interrupt, IndexedAccumulator<A, E> accumulator, BiFunction<A, A, A> combiner, Function<A, R> finisher) {
+    private Collector(Supplier<A> identity, PrimitiveIndexedInterrupt<A, E> interrupt, PrimitiveIndexedAccumulator<A, E> accumulator, BiFunction<A, A, A> combiner, Function<A, R> finisher) {
         this.identity = identity;
         this.interrupt = interrupt;
         this.accumulator = accumulator;
@@ -51,84 +39,212 @@ public final class Collector <E, A, R>{
         return new Collector<>(identity, interrupt, accumulator, combiner, finisher);
     }
 
+    /**
+     * Like {@link #useShortable}, but the interrupt and accumulator take the index as a primitive {@code long}, so
+     * no index is boxed on the way in.
+     */
+    public static <E, A, R> Collector<E, A, R> useUnboxed(Supplier<A> identity, PrimitiveIndexedInterrupt<A, E> interrupt, PrimitiveIndexedAccumulator<A, E> accumulator, BiFunction<A, A, A> combiner, Function<A, R> finisher){
+        return new Collector<>(identity, interrupt, accumulator, combiner, finisher);
+    }
+
+    public static <E, A, R> Collector<E, A, R> useMutable(Supplier<A> identity, IndexedMutator<A, E> accumulator, BiConsumer<A, A> combiner, Function<A, R> finisher){
+        return useMutable(identity, (a, e, i) -> false, accumulator, combiner, finisher);
+    }
+
+    public static <E, A, R> Collector<E, A, R> useMutable(Supplier<A> identity, PrimitiveIndexedInterrupt<A, E> interrupt, IndexedMutator<A, E> accumulator, BiConsumer<A, A> combiner, Function<A, R> finisher){
+        return new Collector<>(identity, interrupt, (a, e, i) -> {
+            accumulator.accept(a, e, i);
+            return a;
+        }, (a, b) -> {
+            combiner.accept(a, b);
+            return a;
+        }, finisher);
+    }
+
     public R collect(Generator<E> generator){
         return this.collect(generator, 1);
     }
 
     public R collect(Generator<E> generator, long concurrent){
+        return this.collect(generator, concurrent, ExecutionContext.useDefault());
+    }
+
+    public R collect(Generator<E> generator, long concurrent, ExecutionContext context){
         if(concurrent < 2){
-            final AtomicReference<A> a = new AtomicReference<>(this.identity.get());
-            generator.accept((element, index) -> {
-                a.updateAndGet((previous) -> this.accumulator.apply(previous, element, index));
-            }, (element, index) -> this.interrupt.test(a.get(), element, index));
-            return this.finisher.apply(a.get());
+            return this.finisher.apply(this.accumulate(generator));
         }
-        List<Future<A>> futures = new ArrayList<>();
-        for (AtomicLong thread = new AtomicLong(0); thread.get() < concurrent; thread.getAndIncrement()) {
-            final long identity = thread.get();
-            futures.add(executor.submit(()->{
-                final AtomicReference<A> a = new AtomicReference<>(this.identity.get());
-                generator.accept((element, index) -> {
-                    if(index % concurrent == identity){
-                        a.updateAndGet((previous) -> this.accumulator.apply(previous, element, index));
-                    }
-                }, (element, index) -> this.interrupt.test(a.get(), element, index));
-                return a.get();
-            }));
+        if(Objects.isNull(context)){
+            context = ExecutionContext.useDefault();
         }
-        A a = this.identity.get();
-        try{
+        ForkJoinPool pool = context.pool();
+        if(Objects.nonNull(pool) && generator instanceof SplittableGenerator<E> splittable){
+            long threshold = Math.max(1L, splittable.size() / (concurrent << 2));
+            Fork task = new Fork(splittable, 0L, splittable.size(), threshold);
+            return this.finisher.apply(ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task));
+        }
+        if(generator instanceof SplittableGenerator<E> splittable){
+            List<Future<A>> futures = new ArrayList<>();
+            long size = splittable.size();
+            long chunk = (size + concurrent - 1L) / concurrent;
+            for (long start = 0L; start < size; start += chunk) {
+                final Generator<E> split = splittable.split(start, Math.min(start + chunk, size));
+                futures.add(context.submit(() -> this.accumulate(split)));
+            }
+            A a = this.identity.get();
             for(Future<A> future : futures){
-                a = this.combiner.apply(a, future.get());
+                a = this.combine(a, future);
             }
+            return this.finisher.apply(a);
+        }
+        Dispatch dispatch = new Dispatch(context, concurrent << 1);
+        IndexedGenerator.useGenerator(generator).generate(dispatch);
+        return this.finisher.apply(dispatch.drain());
+    }
+
+    private A combine(A a, Future<A> future){
+        try{
+            return this.combiner.apply(a, future.get());
         }catch (Exception exception){
             throw new RuntimeException(exception);
         }
-        return this.finisher.apply(a);
     }
 
-    public R collect(E[] elements){
-        return this.collect(elements, 1);
+    private A accumulate(Generator<E> generator){
+        Accumulation accumulation = new Accumulation(this.identity.get());
+        IndexedGenerator.useGenerator(generator).generate(accumulation);
+        return accumulation.a;
     }
 
-    public R collect(E[] elements, long concurrent){
-        if(concurrent < 2){
-            final AtomicReference<A> a = new AtomicReference<>(this.identity.get());
-            AtomicLong index = new AtomicLong(0);
-            for(E element : elements){
-                if(this.interrupt.test(a.get(), element, index.get())){
-                    break;
-                }
-                a.updateAndGet((previous) -> this.accumulator.apply(previous, element, index.getAndIncrement()));
+    private final class Accumulation implements IndexedSink<E> {
+
+        private A a;
+
+        private Accumulation(A a) {
+            this.a = a;
+        }
+
+        @Override
+        public void accept(E element, long index) {
+            this.a = accumulator.apply(this.a, element, index);
+        }
+
+        @Override
+        public boolean test(E element, long index) {
+            return interrupt.test(this.a, element, index);
+        }
+    }
+
+    private final class Dispatch implements IndexedSink<E> {
+
+        private static final int width = 1024;
+
+        private final ExecutionContext context;
+
+        private final long backlog;
+
+        private final AtomicBoolean stop = new AtomicBoolean(false);
+
+        private final ArrayDeque<Future<A>> pending = new ArrayDeque<>();
+
+        private List<E> elements = new ArrayList<>(width);
+
+        private long[] indices = new long[width];
+
+        private A a = identity.get();
+
+        private Dispatch(ExecutionContext context, long backlog) {
+            this.context = context;
+            this.backlog = backlog;
+        }
+
+        @Override
+        public void accept(E element, long index) {
+            this.indices[this.elements.size()] = index;
+            this.elements.add(element);
+            if(this.elements.size() == width){
+                this.flush();
             }
-            return this.finisher.apply(a.get());
         }
-        List<Future<A>> futures = new ArrayList<>();
-        for (AtomicLong thread = new AtomicLong(0); thread.get() < concurrent; thread.getAndIncrement()) {
-            final long identity = thread.get();
-            futures.add(executor.submit(()->{
-                final AtomicReference<A> a = new AtomicReference<>(this.identity.get());
-                AtomicLong index = new AtomicLong(0);
-                if(index.get() % concurrent == identity){
-                    for(E element : elements){
-                        if(this.interrupt.test(a.get(), element, index.get())){
-                            break;
-                        }
-                        a.updateAndGet((previous) -> this.accumulator.apply(previous, element, index.getAndIncrement()));
+
+        @Override
+        public boolean test(E element, long index) {
+            return this.stop.get();
+        }
+
+        private void flush() {
+            if(this.elements.isEmpty()){
+                return;
+            }
+            final List<E> elements = this.elements;
+            final long[] indices = this.indices;
+            this.pending.add(this.context.submit(() -> {
+                A a = identity.get();
+                for(int position = 0; position < elements.size(); position++){
+                    E element = elements.get(position);
+                    if(interrupt.test(a, element, indices[position])){
+                        this.stop.set(true);
+                        break;
                     }
+                    a = accumulator.apply(a, element, indices[position]);
                 }
-                return a.get();
+                return a;
             }));
+            this.elements = new ArrayList<>(width);
+            this.indices = new long[width];
+            while(this.pending.size() > this.backlog){
+                this.a = combine(this.a, this.pending.poll());
+            }
         }
-        A a = this.identity.get();
-        try{
-            for(Future<A> future : futures){
-                a = this.combiner.apply(a, future.get());
+
+        private A drain() {
+            this.flush();
+            while(!this.pending.isEmpty()){
+                this.a = combine(this.a, this.pending.poll());
             }
-        }catch (Exception exception){
-            throw new RuntimeException(exception);
+            return this.a;
+        }
+    }
+
+    private final class Fork extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SplittableGenerator<E> generator;
+
+        private final long start;
+
+        private final long end;
+
+        private final long threshold;
+
+        private Fork(SplittableGenerator<E> generator, long start, long end, long threshold) {
+            this.generator = generator;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected A compute() {
+            if(this.end - this.start <= this.threshold){
+                return accumulate(this.generator.split(this.start, this.end));
+            }
+            long middle = (this.start + this.end) >>> 1;
+            Fork left = new Fork(this.generator, this.start, middle, this.threshold);
+            Fork right = new Fork(this.generator, middle, this.end, this.threshold);
+            left.fork();
+            A b = right.compute();
+            A a = left.join();
+            return combiner.apply(a, b);
         }
-        return this.finisher.apply(a);
+    }
+
+    public R collect(E[] elements){
+        return this.collect(elements, 1);
+    }
+
+    public R collect(E[] elements, long concurrent){
+        return this.collect(Semantic.useFrom(elements).source(), concurrent);
     }
 
     public R collect(Iterable<E> iterable){
@@ -136,42 +252,6 @@ public final class Collector <E, A, R>{
     }
 
     public R collect(Iterable<E> iterable, long concurrent){
-        if(concurrent < 2){
-            final AtomicReference<A> a = new AtomicReference<>(this.identity.get());
-            AtomicLong index = new AtomicLong(0);
-            for(E element : iterable){
-                if(this.interrupt.test(a.get(), element, index.get())){
-                    break;
-                }
-                a.updateAndGet((previous) -> this.accumulator.apply(previous, element, index.getAndIncrement()));
-            }
-            return this.finisher.apply(a.get());
-        }
-        List<Future<A>> futures = new ArrayList<>();
-        for (AtomicLong thread = new AtomicLong(0); thread.get() < concurrent; thread.getAndIncrement()) {
-            final long identity = thread.get();
-            futures.add(executor.submit(()->{
-                final AtomicReference<A> a = new AtomicReference<>(this.identity.get());
-                AtomicLong index = new AtomicLong(0);
-                if(index.get() % concurrent == identity){
-                    for(E element : iterable){
-                        if(this.interrupt.test(a.get(), element, index.get())){
-                            break;
-                        }
-                        a.updateAndGet((previous) -> this.accumulator.apply(previous, element, index.getAndIncrement()));
-                    }
-                }
-                return a.get();
-            }));
-        }
-        A a = this.identity.get();
-        try{
-            for(Future<A> future : futures){
-                a = this.combiner.apply(a, future.get());
-            }
-        }catch (Exception exception){
-            throw new RuntimeException(exception);
-        }
-        return this.finisher.apply(a);
+        return this.collect(Semantic.useFrom(iterable).source(), concurrent);
     }
 }
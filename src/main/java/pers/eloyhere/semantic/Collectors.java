@@ -8,7 +8,7 @@ public class Collectors {
 
     public static <E> Collector<E, Boolean, Boolean> useAnyMatch(Predicate<E> predicate){
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 ()-> false,
                 (accumulator, element, index) -> accumulator,
                 (accumulator, element, index) -> accumulator || predicate.test(element),
@@ -19,7 +19,7 @@ public class Collectors {
 
     public static <E> Collector<E, Boolean, Boolean> useAnyMatch(BiPredicate<E, Long> predicate){
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 ()-> false,
                 (accumulator, element, index) -> accumulator,
                 (accumulator, element, index) -> accumulator || predicate.test(element, index),
@@ -30,7 +30,7 @@ public class Collectors {
 
     public static <E> Collector<E, Boolean, Boolean> useAllMatch(Predicate<E> predicate) {
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 () -> true,
                 (accumulator, element, index) -> !accumulator,
                 (accumulator, element, index) -> accumulator && predicate.test(element),
@@ -41,7 +41,7 @@ public class Collectors {
 
     public static <E> Collector<E, Boolean, Boolean> useAllMatch(BiPredicate<E, Long> predicate) {
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 () -> true,
                 (accumulator, element, index) -> !accumulator,
                 (accumulator, element, index) -> accumulator && predicate.test(element, index),
@@ -52,7 +52,7 @@ public class Collectors {
 
     public static <E> Collector<E, Boolean, Boolean> useNoneMatch(Predicate<E> predicate) {
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 () -> true,
                 (accumulator, element, index) -> !accumulator,
                 (accumulator, element, index) -> accumulator && !predicate.test(element),
@@ -63,7 +63,7 @@ public class Collectors {
 
     public static <E> Collector<E, Boolean, Boolean> useNoneMatch(BiPredicate<E, Long> predicate) {
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 () -> true,
                 (accumulator, element, index) -> !accumulator,
                 (accumulator, element, index) -> accumulator && !predicate.test(element, index),
@@ -73,7 +73,7 @@ public class Collectors {
     }
 
     public static <E> Collector<E, Optional<E>, Optional<E>> useFindFirst() {
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 Optional::empty,
                 (accumulator, element, index) -> accumulator.isPresent(),
                 (accumulator, element, index) -> Optional.of(element),
@@ -102,7 +102,7 @@ public class Collectors {
     }
 
     public static <E> Collector<E, Optional<E>, Optional<E>> useFindAny() {
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 Optional::empty,
                 (accumulator, element, index) -> accumulator.isPresent(),
                 (accumulator, element, index) -> {
@@ -126,7 +126,7 @@ public class Collectors {
         if(target < 0){
             throw new IllegalArgumentException("Use function \"useFindNegativeAt\" instead.");
         }
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 Optional::empty,
                 (accumulator, element, index) -> accumulator.isPresent(),
                 (accumulator, element, index) -> {
@@ -149,15 +149,13 @@ public class Collectors {
         if(target > -1){
             throw new IllegalArgumentException("Use function \"useFindAt\" instead.");
         }
-        return Collector.useFull(
+        return Collector.useMutable(
                 ArrayList::new,
                 (accumulator, element, index) -> {
                     accumulator.add(element);
-                    return accumulator;
                 },
                 (a, b) -> {
                     a.addAll(b);
-                    return a;
                 },
                 (accumulator) -> {
                     if(accumulator.isEmpty()){
@@ -176,7 +174,7 @@ public class Collectors {
 
     public static <E> Collector<E, Optional<E>, Optional<E>> useFindMaximum(Comparator<E> comparator) {
         Objects.requireNonNull(comparator, "Comparator could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 Optional::empty,
                 (accumulator, element, index) -> false,
                 (accumulator, element, index) -> {
@@ -201,7 +199,7 @@ public class Collectors {
 
     public static <E> Collector<E, Optional<E>, Optional<E>> useFindMinimum(Comparator<E> comparator) {
         Objects.requireNonNull(comparator, "Comparator could not be null.");
-        return Collector.useShortable(
+        return Collector.useUnboxed(
                 Optional::empty,
                 (accumulator, element, index) -> false,
                 (accumulator, element, index) -> {
@@ -219,18 +217,50 @@ public class Collectors {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    public static <E> Collector<E, ?, List<E>> useTop(final long count) {
+        return useTop(count, (e1, e2) -> ((Comparable<E>) e1).compareTo(e2));
+    }
+
+    public static <E> Collector<E, ?, List<E>> useTop(final long count, final Comparator<E> comparator) {
+        return useSelect(count, comparator, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> Collector<E, ?, List<E>> useBottom(final long count) {
+        return useBottom(count, (e1, e2) -> ((Comparable<E>) e1).compareTo(e2));
+    }
+
+    public static <E> Collector<E, ?, List<E>> useBottom(final long count, final Comparator<E> comparator) {
+        return useSelect(count, comparator, false);
+    }
+
+    private static <E> Collector<E, BoundedHeap<E>, List<E>> useSelect(final long count, final Comparator<E> comparator, final boolean ascending) {
+        Objects.requireNonNull(comparator, "Comparator could not be null.");
+        if (count < 0) {
+            throw new IllegalArgumentException("Count could not less than 0.");
+        }
+        int capacity = (int) Math.min(count, Integer.MAX_VALUE - 8);
+        return Collector.useMutable(
+                () -> new BoundedHeap<>(capacity, comparator, ascending),
+                (accumulator, element, index) -> {
+                    accumulator.offer(element, index);
+                },
+                BoundedHeap::merge,
+                BoundedHeap::drain
+        );
+    }
+
     public static <E, K> Collector<E, Map<K, List<E>>, Map<K, List<E>>> useGroup(final Function<E, K> keyExtractor) {
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element);
                     map.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
-                    return map;
                 },
                 (map1, map2) -> {
                     map2.forEach((key, list) -> map1.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
-                    return map1;
                 },
                 map -> map
         );
@@ -238,16 +268,14 @@ public class Collectors {
 
     public static <E, K> Collector<E, Map<K, List<E>>, Map<K, List<E>>> useGroup(final BiFunction<E, Long, K> keyExtractor) {
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element, index);
                     map.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
-                    return map;
                 },
                 (map1, map2) -> {
                     map2.forEach((key, list) -> map1.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
-                    return map1;
                 },
                 map -> map
         );
@@ -256,17 +284,15 @@ public class Collectors {
     public static <E, K, V> Collector<E, Map<K, List<V>>, Map<K, List<V>>> useGroupBy(final Function<E, K> keyExtractor, final Function<E, V> valueExtractor) {
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
         Objects.requireNonNull(valueExtractor, "Value extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element);
                     V value = valueExtractor.apply(element);
                     map.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
-                    return map;
                 },
                 (map1, map2) -> {
                     map2.forEach((key, list) -> map1.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
-                    return map1;
                 },
                 map -> map
         );
@@ -275,31 +301,28 @@ public class Collectors {
     public static <E, K, V> Collector<E, Map<K, List<V>>, Map<K, List<V>>> useGroupBy(final BiFunction<E, Long, K> keyExtractor, final BiFunction<E, Long, V> valueExtractor) {
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
         Objects.requireNonNull(valueExtractor, "Value extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element, index);
                     V value = valueExtractor.apply(element, index);
                     map.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
-                    return map;
                 },
                 (map1, map2) -> {
                     map2.forEach((key, list) -> map1.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
-                    return map1;
                 },
                 map -> map
         );
     }
 
     public static <E> Collector<E, StringBuilder, String> useJoin() {
-        return Collector.useFull(
+        return Collector.useMutable(
                 StringBuilder::new,
                 (builder, element, index) -> {
                     if (!builder.isEmpty()) {
                         builder.append(", ");
                     }
                     builder.append(element);
-                    return builder;
                 },
                 (builder1, builder2) -> {
                     if (!builder2.isEmpty()) {
@@ -308,7 +331,6 @@ public class Collectors {
                         }
                         builder1.append(builder2);
                     }
-                    return builder1;
                 },
                 (a) -> {
                     a.insert(0, '[');
@@ -320,14 +342,13 @@ public class Collectors {
 
     public static <E> Collector<E, StringBuilder, String> useJoin(final String delimiter) {
         Objects.requireNonNull(delimiter, "Delimiter could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 StringBuilder::new,
                 (builder, element, index) -> {
                     if (!builder.isEmpty()) {
                         builder.append(delimiter);
                     }
                     builder.append(element);
-                    return builder;
                 },
                 (builder1, builder2) -> {
                     if (!builder2.isEmpty()) {
@@ -336,7 +357,6 @@ public class Collectors {
                         }
                         builder1.append(builder2);
                     }
-                    return builder1;
                 },
                 (a) -> {
                     a.insert(0, '[');
@@ -350,14 +370,13 @@ public class Collectors {
         Objects.requireNonNull(prefix, "Prefix could not be null.");
         Objects.requireNonNull(delimiter, "Delimiter could not be null.");
         Objects.requireNonNull(suffix, "Suffix could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 StringBuilder::new,
                 (builder, element, index) -> {
                     if (!builder.isEmpty()) {
                         builder.append(delimiter);
                     }
                     builder.append(element);
-                    return builder;
                 },
                 (builder1, builder2) -> {
                     if (!builder2.isEmpty()) {
@@ -366,7 +385,6 @@ public class Collectors {
                         }
                         builder1.append(builder2);
                     }
-                    return builder1;
                 },
                 builder -> prefix + builder.toString() + suffix
         );
@@ -376,14 +394,13 @@ public class Collectors {
         Objects.requireNonNull(prefix, "Prefix could not be null.");
         Objects.requireNonNull(serializer, "Serializer could not be null.");
         Objects.requireNonNull(suffix, "Suffix could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 StringBuilder::new,
                 (builder, element, index) -> {
                     if (!builder.isEmpty()) {
                         builder.append(", ");
                     }
                     builder.append(serializer.apply(element, index));
-                    return builder;
                 },
                 (builder1, builder2) -> {
                     if (!builder2.isEmpty()) {
@@ -392,7 +409,6 @@ public class Collectors {
                         }
                         builder1.append(builder2);
                     }
-                    return builder1;
                 },
                 builder -> prefix + builder.toString() + suffix
         );
@@ -402,14 +418,13 @@ public class Collectors {
         Objects.requireNonNull(prefix, "Prefix could not be null.");
         Objects.requireNonNull(serializer, "Serializer could not be null.");
         Objects.requireNonNull(suffix, "Suffix could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 StringBuilder::new,
                 (builder, element, index) -> {
                     if (!builder.isEmpty()) {
                         builder.append(", ");
                     }
                     builder.append(serializer.apply("", element, index));
-                    return builder;
                 },
                 (builder1, builder2) -> {
                     if (!builder2.isEmpty()) {
@@ -418,7 +433,6 @@ public class Collectors {
                         }
                         builder1.append(builder2);
                     }
-                    return builder1;
                 },
                 builder -> prefix + builder.toString() + suffix
         );
@@ -428,29 +442,27 @@ public class Collectors {
         if (count <= 0) {
             throw new IllegalArgumentException("Partition count must be positive.");
         }
-        return Collector.useFull(
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Partition count is too large.");
+        }
+        return Collector.useMutable(
                 () -> {
-                    Map<Long, List<E>> map = new HashMap<>();
+                    LongMap<List<E>> map = new LongMap<>();
                     for (long i = 0; i < count; i++) {
                         map.put(i, new ArrayList<>());
                     }
                     return map;
                 },
-                (map, element, index) -> {
-                    long partitionKey = index % count;
-                    map.get(partitionKey).add(element);
-                    return map;
-                },
+                (map, element, index) -> ((LongMap<List<E>>) map).get(Math.floorMod(index, count)).add(element),
                 (map1, map2) -> {
                     for (long i = 0; i < count; i++) {
-                        map1.get(i).addAll(map2.get(i));
+                        ((LongMap<List<E>>) map1).get(i).addAll(((LongMap<List<E>>) map2).get(i));
                     }
-                    return map1;
                 },
                 map -> {
-                    List<List<E>> result = new ArrayList<>();
+                    List<List<E>> result = new ArrayList<>((int) count);
                     for (long i = 0; i < count; i++) {
-                        result.add(map.get(i));
+                        result.add(((LongMap<List<E>>) map).get(i));
                     }
                     return result;
                 }
@@ -459,48 +471,29 @@ public class Collectors {
 
     public static <E> Collector<E, Map<Long, List<E>>, List<List<E>>> usePartitionBy(final Function<E, Long> keyExtractor) {
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
-        return Collector.useFull(
-                HashMap::new,
-                (map, element, index) -> {
-                    long partitionKey = keyExtractor.apply(element);
-                    map.computeIfAbsent(partitionKey, k -> new ArrayList<>()).add(element);
-                    return map;
-                },
-                (map1, map2) -> {
-                    map2.forEach((key, list) -> map1.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
-                    return map1;
-                },
-                map -> {
-                    List<Long> sortedKeys = new ArrayList<>(map.keySet());
-                    Collections.sort(sortedKeys);
-                    List<List<E>> result = new ArrayList<>();
-                    for (Long key : sortedKeys) {
-                        result.add(map.get(key));
-                    }
-                    return result;
-                }
-        );
+        return usePartitionBy((element, index) -> keyExtractor.apply(element));
     }
 
     public static <E> Collector<E, Map<Long, List<E>>, List<List<E>>> usePartitionBy(final BiFunction<E, Long, Long> keyExtractor) {
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
-        return Collector.useFull(
-                HashMap::new,
+        return Collector.useMutable(
+                LongMap::new,
                 (map, element, index) -> {
                     long partitionKey = keyExtractor.apply(element, index);
-                    map.computeIfAbsent(partitionKey, k -> new ArrayList<>()).add(element);
-                    return map;
+                    ((LongMap<List<E>>) map).computeIfAbsent(partitionKey, k -> new ArrayList<>()).add(element);
                 },
                 (map1, map2) -> {
-                    map2.forEach((key, list) -> map1.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
-                    return map1;
+                    ((LongMap<List<E>>) map2).visit((key, list) -> {
+                        ((LongMap<List<E>>) map1).computeIfAbsent(key, k -> new ArrayList<>()).addAll(list);
+                        return false;
+                    });
                 },
                 map -> {
-                    List<Long> sortedKeys = new ArrayList<>(map.keySet());
-                    Collections.sort(sortedKeys);
-                    List<List<E>> result = new ArrayList<>();
-                    for (Long key : sortedKeys) {
-                        result.add(map.get(key));
+                    long[] sortedKeys = ((LongMap<List<E>>) map).keys();
+                    Arrays.sort(sortedKeys);
+                    List<List<E>> result = new ArrayList<>(sortedKeys.length);
+                    for (long key : sortedKeys) {
+                        result.add(((LongMap<List<E>>) map).get(key));
                     }
                     return result;
                 }
@@ -547,7 +540,7 @@ public class Collectors {
     public static <E> Collector<E, Long, Long> useCount(){
         return Collector.useFull(
                 ()-> 0L,
-                (accumulator, element, index) -> index + 1L,
+                (accumulator, element, index) -> accumulator + 1L,
                 Long::sum,
                 (a) -> a
         );
@@ -577,46 +570,131 @@ public class Collectors {
         );
     }
 
+    /**
+     * Batches are cut where the element index crosses a multiple of {@code size}, so a parallel collect
+     * yields the same batches as a sequential one; when an upstream stage drops elements, the batches
+     * around the gaps may be partial.
+     */
+    public static <E, A, R> Collector<E, ?, R> useBatch(final int size, final Supplier<A> identity, final BiConsumer<A, List<E>> accumulator, final BiConsumer<A, A> combiner, final Function<A, R> finisher){
+        Objects.requireNonNull(identity, "Identity could not be null.");
+        Objects.requireNonNull(accumulator, "Accumulator could not be null.");
+        Objects.requireNonNull(combiner, "Combiner could not be null.");
+        Objects.requireNonNull(finisher, "Finisher could not be null.");
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive.");
+        }
+        return Collector.<E, Batch<A, E>, R>useMutable(
+                () -> new Batch<>(identity.get()),
+                (batch, element, index) -> {
+                    long window = Math.floorDiv(index, size);
+                    if (Objects.isNull(batch.head)) {
+                        batch.head = new ArrayList<>(size);
+                        batch.first = window;
+                    }
+                    if (Objects.isNull(batch.tail) && window == batch.first) {
+                        batch.head.add(element);
+                        return;
+                    }
+                    if (Objects.nonNull(batch.tail) && window != batch.last) {
+                        accumulator.accept(batch.accumulation, batch.tail);
+                        batch.tail = null;
+                    }
+                    if (Objects.isNull(batch.tail)) {
+                        batch.tail = new ArrayList<>(size);
+                        batch.last = window;
+                    }
+                    batch.tail.add(element);
+                },
+                (a, b) -> {
+                    if (Objects.isNull(b.head)) {
+                        return;
+                    }
+                    if (Objects.isNull(a.head)) {
+                        a.head = b.head;
+                        a.first = b.first;
+                    } else if (Objects.isNull(a.tail) && a.first == b.first) {
+                        a.head.addAll(b.head);
+                    } else {
+                        List<E> junction = b.head;
+                        if (Objects.nonNull(a.tail) && a.last == b.first) {
+                            a.tail.addAll(b.head);
+                            junction = a.tail;
+                        } else if (Objects.nonNull(a.tail)) {
+                            accumulator.accept(a.accumulation, a.tail);
+                        }
+                        if (Objects.isNull(b.tail)) {
+                            a.tail = junction;
+                            a.last = b.first;
+                            return;
+                        }
+                        accumulator.accept(a.accumulation, junction);
+                    }
+                    combiner.accept(a.accumulation, b.accumulation);
+                    a.tail = b.tail;
+                    a.last = b.last;
+                },
+                (batch) -> {
+                    A accumulation = identity.get();
+                    if (Objects.nonNull(batch.head)) {
+                        accumulator.accept(accumulation, batch.head);
+                    }
+                    combiner.accept(accumulation, batch.accumulation);
+                    if (Objects.nonNull(batch.tail)) {
+                        accumulator.accept(accumulation, batch.tail);
+                    }
+                    return finisher.apply(accumulation);
+                }
+        );
+    }
+
+    public static <E> Collector<E, ?, Long> useForEachBatch(final int size, final Consumer<List<E>> consumer){
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return useBatch(
+                size,
+                () -> new long[1],
+                (accumulator, batch) -> {
+                    consumer.accept(batch);
+                    accumulator[0] += batch.size();
+                },
+                (a, b) -> a[0] += b[0],
+                (a) -> a[0]
+        );
+    }
+
     public static <E> Collector<E, List<E>, List<E>> toList(){
-        return Collector.useFull(
+        return Collector.useMutable(
                 ArrayList::new,
                 (accumulator, element, index) -> {
                     accumulator.add(element);
-                    return accumulator;
                 },
                 (a, b) -> {
                     a.addAll(b);
-                    return a;
                 },
                 (a) -> a
         );
     }
 
     public static <E> Collector<E, Set<E>, Set<E>> toHashSet(){
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashSet::new,
                 (accumulator, element, index) -> {
                     accumulator.add(element);
-                    return accumulator;
                 },
                 (a, b) -> {
                     a.addAll(b);
-                    return a;
                 },
                 (a) -> a
         );
     }
 
     public static <E> Collector<E, Set<E>, Set<E>> useToTreeSet(){
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeSet::new,
                 (accumulator, element, index) -> {
                     accumulator.add(element);
-                    return accumulator;
                 },
                 (a, b) -> {
                     a.addAll(b);
-                    return a;
                 },
                 (a) -> a
         );
@@ -624,16 +702,14 @@ public class Collectors {
 
     public static <E, K> Collector<E, Map<K, E>, Map<K, E>> useToHashMap(final Function<E, K> keyExtractor){
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element);
                     map.put(key, element);
-                    return map;
                 },
                 (map1, map2) -> {
                     map1.putAll(map2);
-                    return map1;
                 },
                 map -> map
         );
@@ -642,17 +718,15 @@ public class Collectors {
     public static <E, K, V> Collector<E, Map<K, V>, Map<K, V>> useToHashMap(final Function<E, K> keyExtractor, final Function<E, V> valueExtractor){
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
         Objects.requireNonNull(valueExtractor, "Value extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 HashMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element);
                     V value = valueExtractor.apply(element);
                     map.put(key, value);
-                    return map;
                 },
                 (map1, map2) -> {
                     map1.putAll(map2);
-                    return map1;
                 },
                 map -> map
         );
@@ -660,16 +734,14 @@ public class Collectors {
 
     public static <E, K> Collector<E, Map<K, E>, Map<K, E>> useToTreeMap(final Function<E, K> keyExtractor){
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element);
                     map.put(key, element);
-                    return map;
                 },
                 (map1, map2) -> {
                     map1.putAll(map2);
-                    return map1;
                 },
                 map -> map
         );
@@ -678,24 +750,22 @@ public class Collectors {
     public static <E, K, V> Collector<E, Map<K, V>, Map<K, V>> useToTreeMap(final Function<E, K> keyExtractor, final Function<E, V> valueExtractor){
         Objects.requireNonNull(keyExtractor, "Key extractor could not be null.");
         Objects.requireNonNull(valueExtractor, "Value extractor could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeMap::new,
                 (map, element, index) -> {
                     K key = keyExtractor.apply(element);
                     V value = valueExtractor.apply(element);
                     map.put(key, value);
-                    return map;
                 },
                 (map1, map2) -> {
                     map1.putAll(map2);
-                    return map1;
                 },
                 map -> map
         );
     }
 
     public static <E> Collector<E, Map<E, Long>, Map<E, Long>> useFrequency(){
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeMap::new,
                 (accumulator, element, index) -> {
                     accumulator.compute(element, (key, value) -> {
@@ -704,7 +774,6 @@ public class Collectors {
                         }
                         return 0L;
                     });
-                    return accumulator;
                 },
                 (a, b) -> {
                     b.forEach((k, v) -> {
@@ -715,7 +784,6 @@ public class Collectors {
                             return 0L;
                         });
                     });
-                    return a;
                 },
                 (a) -> a
         );
@@ -723,7 +791,7 @@ public class Collectors {
 
     public static <E, D> Collector<E, Map<D, Long>, Map<D, Long>> useFrequency(final Function<E, D> mapper){
         Objects.requireNonNull(mapper, "Mapper could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeMap::new,
                 (accumulator, element, index) -> {
                     accumulator.compute(mapper.apply(element), (key, value) -> {
@@ -732,7 +800,6 @@ public class Collectors {
                         }
                         return 0L;
                     });
-                    return accumulator;
                 },
                 (a, b) -> {
                     b.forEach((k, v) -> {
@@ -743,14 +810,13 @@ public class Collectors {
                             return 0L;
                         });
                     });
-                    return a;
                 },
                 (a) -> a
         );
     }
 
     public static <E> Collector<E, TreeMap<E, Long>, Optional<E>> useMode(){
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeMap::new,
                 (accumulator, element, index) -> {
                     accumulator.compute(element, (key, value) -> {
@@ -759,7 +825,6 @@ public class Collectors {
                         }
                         return 0L;
                     });
-                    return accumulator;
                 },
                 (a, b) -> {
                     b.forEach((k, v) -> {
@@ -770,7 +835,6 @@ public class Collectors {
                             return 0L;
                         });
                     });
-                    return a;
                 },
                 (a) -> {
                     if(a.isEmpty()){
@@ -783,7 +847,7 @@ public class Collectors {
 
     public static <E, D> Collector<E, TreeMap<D, Long>, Optional<D>> useMode(final Function<E, D> mapper){
         Objects.requireNonNull(mapper, "Mapper could not be null.");
-        return Collector.useFull(
+        return Collector.useMutable(
                 TreeMap::new,
                 (accumulator, element, index) -> {
                     accumulator.compute(mapper.apply(element), (key, value) -> {
@@ -792,7 +856,6 @@ public class Collectors {
                         }
                         return 0L;
                     });
-                    return accumulator;
                 },
                 (a, b) -> {
                     b.forEach((k, v) -> {
@@ -803,7 +866,6 @@ public class Collectors {
                             return 0L;
                         });
                     });
-                    return a;
                 },
                 (a) -> {
                     if(a.isEmpty()){
@@ -813,4 +875,21 @@ public class Collectors {
                 }
         );
     }
+
+    private static final class Batch<A, E> {
+
+        private final A accumulation;
+
+        private List<E> head;
+
+        private long first;
+
+        private List<E> tail;
+
+        private long last;
+
+        private Batch(A accumulation) {
+            this.accumulation = accumulation;
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package pers.eloyhere.semantic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+abstract class Column<E, D extends Number, V> {
+
+    private final E[] buffer;
+
+    private final D zero;
+
+    private volatile V values;
+
+    Column(E[] buffer, D zero) {
+        this.buffer = buffer;
+        this.zero = zero;
+    }
+
+    abstract V allocate(int length);
+
+    abstract void store(V values, int index, Number value);
+
+    abstract V copy(V values);
+
+    abstract D narrow(V values, int index);
+
+    abstract D total(V values);
+
+    abstract D mean(V values);
+
+    abstract D spread(V values);
+
+    abstract D least(V values);
+
+    abstract D greatest(V values);
+
+    abstract void rank(V values, int[] ranks);
+
+    private V values(Function<E, D> mapper) {
+        if(Objects.nonNull(mapper)){
+            V values = this.allocate(this.buffer.length);
+            for(int index = 0; index < this.buffer.length; index++){
+                this.store(values, index, mapper.apply(this.buffer[index]));
+            }
+            return values;
+        }
+        V values = this.values;
+        if(Objects.isNull(values)){
+            synchronized(this){
+                values = this.values;
+                if(Objects.isNull(values)){
+                    values = this.allocate(this.buffer.length);
+                    for(int index = 0; index < this.buffer.length; index++){
+                        this.store(values, index, (Number) this.buffer[index]);
+                    }
+                    this.values = values;
+                }
+            }
+        }
+        return values;
+    }
+
+    D summate(Function<E, D> mapper) {
+        return this.total(this.values(mapper));
+    }
+
+    D average(Function<E, D> mapper) {
+        return this.mean(this.values(mapper));
+    }
+
+    D variance(Function<E, D> mapper) {
+        return this.buffer.length <= 1 ? this.zero : this.spread(this.values(mapper));
+    }
+
+    D minimum(Function<E, D> mapper) {
+        return this.buffer.length == 0 ? this.zero : this.least(this.values(mapper));
+    }
+
+    D maximum(Function<E, D> mapper) {
+        return this.buffer.length == 0 ? this.zero : this.greatest(this.values(mapper));
+    }
+
+    List<D> select(Function<E, D> mapper, int[] ranks) {
+        V values = Objects.isNull(mapper) ? this.copy(this.values(null)) : this.values(mapper);
+        this.rank(values, ranks);
+        List<D> selection = new ArrayList<>(ranks.length);
+        for(int rank : ranks){
+            selection.add(this.narrow(values, rank));
+        }
+        return selection;
+    }
+}
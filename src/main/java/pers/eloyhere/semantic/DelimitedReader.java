@@ -0,0 +1,280 @@
+package pers.eloyhere.semantic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+final class DelimitedReader implements AutoCloseable {
+
+    private static final int block = 1 << 20;
+
+    private static final String[] skipped = new String[0];
+
+    private final DelimitedSchema schema;
+
+    private final FileChannel channel;
+
+    private final byte[] chunk = new byte[1 << 20];
+
+    private final ByteBuffer buffer = ByteBuffer.wrap(this.chunk);
+
+    private final int[] slots;
+
+    private final int[] duplicates;
+
+    private byte[] field = new byte[64];
+
+    private int length = 0;
+
+    private long base = 0L;
+
+    private int cursor = 0;
+
+    private int limit = 0;
+
+    private long start = 0L;
+
+    private final Index index;
+
+    DelimitedReader(Path path, DelimitedSchema schema, Index index) throws IOException {
+        this.schema = schema;
+        this.index = index;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        if(Objects.isNull(schema.columns)){
+            this.slots = null;
+            this.duplicates = null;
+        }else{
+            int width = 0;
+            for(int column : schema.columns){
+                width = Math.max(width, column + 1);
+            }
+            this.slots = new int[width];
+            this.duplicates = new int[schema.columns.length];
+            Arrays.fill(this.slots, -1);
+            for(int slot = 0; slot < schema.columns.length; slot++){
+                int column = schema.columns[slot];
+                this.duplicates[slot] = this.slots[column];
+                if(this.slots[column] < 0){
+                    this.slots[column] = slot;
+                }
+            }
+        }
+    }
+
+    long start() {
+        return this.start;
+    }
+
+    void seek(long position) {
+        this.base = position;
+        this.cursor = 0;
+        this.limit = 0;
+    }
+
+    private long position() {
+        return this.base + this.cursor;
+    }
+
+    private boolean fill() throws IOException {
+        this.base += this.limit;
+        this.cursor = 0;
+        this.buffer.clear();
+        int read = this.channel.read(this.buffer, this.base);
+        if(read <= 0){
+            this.limit = 0;
+            return false;
+        }
+        this.limit = read;
+        return true;
+    }
+
+    private int next() throws IOException {
+        if(this.cursor == this.limit && !this.fill()){
+            return -1;
+        }
+        return this.chunk[this.cursor++] & 0xFF;
+    }
+
+    private int peek() throws IOException {
+        if(this.cursor == this.limit && !this.fill()){
+            return -1;
+        }
+        return this.chunk[this.cursor] & 0xFF;
+    }
+
+    private void append(int b) {
+        if(this.length == this.field.length){
+            this.field = Arrays.copyOf(this.field, this.length << 1);
+        }
+        this.field[this.length++] = (byte) b;
+    }
+
+    long locate(long from) throws IOException {
+        if(from <= 0){
+            this.seek(0L);
+            return 0L;
+        }
+        long[][] table = this.index.table(this);
+        int slot = (int) (from / block);
+        long start = table[0][slot];
+        long ordinal = table[1][slot];
+        this.seek(start);
+        if(start < from){
+            while(this.skip(from)){
+                ordinal++;
+            }
+        }
+        return ordinal;
+    }
+
+    boolean skip(long to) throws IOException {
+        return Objects.nonNull(this.parse(to, false));
+    }
+
+    String[] read(long to) throws IOException {
+        return this.parse(to, true);
+    }
+
+    private String[] parse(long to, boolean materialize) throws IOException {
+        int b = this.peek();
+        while(b == '\n' || b == '\r'){
+            this.next();
+            b = this.peek();
+        }
+        this.start = this.position();
+        if(b < 0 || this.start >= to){
+            return null;
+        }
+        int quote = this.schema.quote;
+        int delimiter = this.schema.delimiter;
+        String[] values = !materialize || Objects.isNull(this.slots) ? null : new String[this.schema.columns.length];
+        List<String> all = materialize && Objects.isNull(this.slots) ? new ArrayList<>() : null;
+        int column = 0;
+        while(true){
+            int slot = !materialize ? -1 : Objects.isNull(this.slots) ? -2 : column < this.slots.length ? this.slots[column] : -1;
+            boolean keep = slot != -1;
+            this.length = 0;
+            b = this.next();
+            if(b == quote){
+                while(true){
+                    b = this.next();
+                    if(b < 0){
+                        break;
+                    }
+                    if(b == quote){
+                        if(this.peek() == quote){
+                            this.next();
+                            if(keep){
+                                this.append(quote);
+                            }
+                            continue;
+                        }
+                        b = this.next();
+                        break;
+                    }
+                    if(keep){
+                        this.append(b);
+                    }
+                }
+                while(b >= 0 && b != delimiter && b != '\n'){
+                    if(keep && b != '\r'){
+                        this.append(b);
+                    }
+                    b = this.next();
+                }
+            }else{
+                while(b >= 0 && b != delimiter && b != '\n'){
+                    if(keep){
+                        this.append(b);
+                    }
+                    b = this.next();
+                }
+                if(keep && b != delimiter && this.length > 0 && this.field[this.length - 1] == '\r'){
+                    this.length--;
+                }
+            }
+            if(keep){
+                String value = new String(this.field, 0, this.length, this.schema.charset);
+                if(slot == -2){
+                    all.add(value);
+                }else{
+                    values[slot] = value;
+                }
+            }
+            column++;
+            if(b != delimiter){
+                break;
+            }
+        }
+        if(!materialize){
+            return skipped;
+        }
+        if(Objects.isNull(values)){
+            return all.toArray(new String[0]);
+        }
+        for(int slot = 0; slot < values.length; slot++){
+            if(this.duplicates[slot] >= 0){
+                values[slot] = values[this.duplicates[slot]];
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Where records start, shared by every split of one source: for each 1 MiB block, the first record starting
+     * in or after it and the number of records ahead of that one. It is built once by a sequential pass that
+     * lexes quotes exactly as {@link #read(long)} does, so splits agree with a sequential read on every input.
+     */
+    static final class Index {
+
+        private final long size;
+
+        private volatile long[][] table;
+
+        Index(long size) {
+            this.size = size;
+        }
+
+        private long[][] table(DelimitedReader reader) throws IOException {
+            long[][] table = this.table;
+            if(Objects.isNull(table)){
+                synchronized(this){
+                    table = this.table;
+                    if(Objects.isNull(table)){
+                        int blocks = (int) ((this.size + block - 1) / block) + 1;
+                        long[] starts = new long[blocks];
+                        long[] ordinals = new long[blocks];
+                        int slot = 0;
+                        long count = 0L;
+                        reader.seek(0L);
+                        while(reader.skip(Long.MAX_VALUE)){
+                            for(; slot < blocks && (long) slot * block <= reader.start(); slot++){
+                                starts[slot] = reader.start();
+                                ordinals[slot] = count;
+                            }
+                            count++;
+                        }
+                        for(; slot < blocks; slot++){
+                            starts[slot] = this.size;
+                            ordinals[slot] = count;
+                        }
+                        table = new long[][]{starts, ordinals};
+                        this.table = table;
+                    }
+                }
+            }
+            return table;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package pers.eloyhere.semantic;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class DelimitedSchema {
+
+    protected final byte delimiter;
+
+    protected final byte quote;
+
+    protected final boolean header;
+
+    protected final int[] columns;
+
+    protected final Charset charset;
+
+    protected DelimitedSchema(byte delimiter, byte quote, boolean header, int[] columns, Charset charset) {
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.header = header;
+        this.columns = columns;
+        this.charset = charset;
+    }
+
+    public DelimitedSchema header(boolean header){
+        return new DelimitedSchema(this.delimiter, this.quote, header, this.columns, this.charset);
+    }
+
+    public DelimitedSchema project(int... columns){
+        Objects.requireNonNull(columns, "Columns could not be null.");
+        for(int column : columns){
+            if(column < 0){
+                throw new IllegalArgumentException("Column could not less than 0.");
+            }
+        }
+        return new DelimitedSchema(this.delimiter, this.quote, this.header, Arrays.copyOf(columns, columns.length), this.charset);
+    }
+
+    public DelimitedSchema charset(Charset charset){
+        Objects.requireNonNull(charset, "Charset could not be null.");
+        if(!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() > 1F){
+            throw new IllegalArgumentException("Charset must be UTF-8 or single-byte.");
+        }
+        return new DelimitedSchema(this.delimiter, this.quote, this.header, this.columns, charset);
+    }
+
+    public static DelimitedSchema useCsv(){
+        return useDelimiter(',');
+    }
+
+    public static DelimitedSchema useTsv(){
+        return useDelimiter('\t');
+    }
+
+    public static DelimitedSchema useDelimiter(char delimiter){
+        return useDelimiter(delimiter, '"');
+    }
+
+    public static DelimitedSchema useDelimiter(char delimiter, char quote){
+        if(delimiter > 0x7F || quote > 0x7F){
+            throw new IllegalArgumentException("Delimiter and quote must be ASCII.");
+        }
+        if(delimiter == quote || delimiter == '\n' || delimiter == '\r' || quote == '\n' || quote == '\r'){
+            throw new IllegalArgumentException("Delimiter and quote must be distinct from each other and from line breaks.");
+        }
+        return new DelimitedSchema((byte) delimiter, (byte) quote, false, null, StandardCharsets.UTF_8);
+    }
+}
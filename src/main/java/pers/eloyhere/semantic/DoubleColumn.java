@@ -0,0 +1,64 @@
+package pers.eloyhere.semantic;
+
+import java.util.function.DoubleFunction;
+
+final class DoubleColumn<E, D extends Number> extends Column<E, D, double[]> {
+
+    private final DoubleFunction<D> narrow;
+
+    DoubleColumn(E[] buffer, DoubleFunction<D> narrow, D zero) {
+        super(buffer, zero);
+        this.narrow = narrow;
+    }
+
+    @Override
+    double[] allocate(int length) {
+        return new double[length];
+    }
+
+    @Override
+    void store(double[] values, int index, Number value) {
+        values[index] = value.doubleValue();
+    }
+
+    @Override
+    double[] copy(double[] values) {
+        return values.clone();
+    }
+
+    @Override
+    D narrow(double[] values, int index) {
+        return this.narrow.apply(values[index]);
+    }
+
+    @Override
+    D total(double[] values) {
+        return this.narrow.apply(Kernels.summate(values));
+    }
+
+    @Override
+    D mean(double[] values) {
+        return this.narrow.apply(Kernels.summate(values) / values.length);
+    }
+
+    @Override
+    D spread(double[] values) {
+        double mean = Kernels.summate(values) / values.length;
+        return this.narrow.apply(Kernels.deviation(values, mean) / (values.length - 1));
+    }
+
+    @Override
+    D least(double[] values) {
+        return this.narrow.apply(Kernels.minimum(values));
+    }
+
+    @Override
+    D greatest(double[] values) {
+        return this.narrow.apply(Kernels.maximum(values));
+    }
+
+    @Override
+    void rank(double[] values, int[] ranks) {
+        Kernels.select(values, ranks);
+    }
+}
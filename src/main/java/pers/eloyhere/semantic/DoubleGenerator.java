@@ -0,0 +1,14 @@
+package pers.eloyhere.semantic;
+
+public interface DoubleGenerator {
+
+    public void accept(DoubleGenerator.Consumer accept, DoubleGenerator.Interrupt interrupt);
+
+    public interface Consumer {
+        public void accept(double element, long index);
+    }
+
+    public interface Interrupt {
+        public boolean test(double element, long index);
+    }
+}
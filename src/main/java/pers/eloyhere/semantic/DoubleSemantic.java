@@ -0,0 +1,178 @@
+package pers.eloyhere.semantic;
+
+import java.util.*;
+import java.util.function.*;
+
+public class DoubleSemantic extends PrimitiveSemantic<DoubleGenerator, DoubleSemantic> {
+
+    public DoubleSemantic(DoubleGenerator generator) {
+        this(Pipeline.useGenerator(generator));
+    }
+
+    DoubleSemantic(Pipeline<DoubleGenerator> pipeline) {
+        super(pipeline);
+    }
+
+    @Override
+    DoubleSemantic wrap(Pipeline<DoubleGenerator> pipeline) {
+        return new DoubleSemantic(pipeline);
+    }
+
+    public DoubleSemantic filter(final DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "Predicate could not be null.");
+        return new DoubleSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> {
+            generator.accept((element, index) -> {
+                if (predicate.test(element)) {
+                    accept.accept(element, index);
+                }
+            }, interrupt);
+        }));
+    }
+
+    public DoubleSemantic limit(final long n) {
+        return this.relay(Relay.useLimit(n));
+    }
+
+    public DoubleSemantic map(final DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new DoubleSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardDouble(accept, interrupt, mapper.applyAsDouble(element), index))));
+    }
+
+    public LongSemantic mapToLong(final DoubleToLongFunction mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new LongSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardLong(accept, interrupt, mapper.applyAsLong(element), index))));
+    }
+
+    public IntSemantic mapToInt(final DoubleToIntFunction mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new IntSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardInt(accept, interrupt, mapper.applyAsInt(element), index))));
+    }
+
+    public <R> Semantic<R> mapToObject(final DoubleFunction<R> mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new Semantic<>(this.pipeline.boxed((generator) -> (sink) -> drive(generator, (element, index) -> Relay.forward(sink, mapper.apply(element), index))), this.pipeline.concurrent, this.pipeline.context);
+    }
+
+    public Semantic<Double> boxed() {
+        return this.mapToObject((element) -> element);
+    }
+
+    public DoubleSemantic peek(final DoubleConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return new DoubleSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> {
+            generator.accept((element, index) -> {
+                consumer.accept(element);
+                accept.accept(element, index);
+            }, interrupt);
+        }));
+    }
+
+    public DoubleSemantic skip(final long n) {
+        return this.relay(Relay.useSkip(n));
+    }
+
+    public long count() {
+        return this.forEach((element) -> {});
+    }
+
+    public long forEach(final DoubleConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return this.pipeline.collect(() -> new long[1], (count, generator) -> generator.accept((element, index) -> {
+            consumer.accept(element);
+            count[0]++;
+        }, (element, index) -> false), (a, b) -> a[0] += b[0])[0];
+    }
+
+    public double reduce(final double identity, final DoubleBinaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        return this.pipeline.collect(() -> new double[]{identity}, (accumulator, generator) -> generator.accept((element, index) -> {
+            accumulator[0] = operator.applyAsDouble(accumulator[0], element);
+        }, (element, index) -> false), (a, b) -> a[0] = operator.applyAsDouble(a[0], b[0]))[0];
+    }
+
+    public OptionalDouble reduce(final DoubleBinaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        double[] accumulator = this.pipeline.collect(() -> new double[2], (a, generator) -> generator.accept((element, index) -> {
+            a[0] = a[1] == 0.0 ? element : operator.applyAsDouble(a[0], element);
+            a[1] = 1.0;
+        }, (element, index) -> false), (a, b) -> {
+            if(b[1] != 0.0){
+                a[0] = a[1] == 0.0 ? b[0] : operator.applyAsDouble(a[0], b[0]);
+                a[1] = 1.0;
+            }
+        });
+        return accumulator[1] == 0.0 ? OptionalDouble.empty() : OptionalDouble.of(accumulator[0]);
+    }
+
+    public double summate() {
+        return this.reduce(0.0, Double::sum);
+    }
+
+    public OptionalDouble average() {
+        double[] summate = this.pipeline.collect(() -> new double[2], (a, generator) -> generator.accept((element, index) -> {
+            a[0] += element;
+            a[1]++;
+        }, (element, index) -> false), (a, b) -> {
+            a[0] += b[0];
+            a[1] += b[1];
+        });
+        if(summate[1] == 0.0){
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(summate[0] / summate[1]);
+    }
+
+    public OptionalDouble findMaximum() {
+        return this.reduce(Double::max);
+    }
+
+    public OptionalDouble findMinimum() {
+        return this.reduce(Double::min);
+    }
+
+    public double[] toArray() {
+        return this.pipeline.toArray(DoubleSemantic::array, double[]::new);
+    }
+
+    private DoubleSemantic relay(final Relay template) {
+        DoubleGenerator generator = this.generator;
+        return new DoubleSemantic(this.pipeline.chain((accept, interrupt) -> {
+            Relay relay = template.copy();
+            generator.accept((element, index) -> {
+                long position = relay.position();
+                if(relay.admit()){
+                    accept.accept(element, position);
+                }
+            }, (element, index) -> relay.halted() || relay.open() && interrupt.test(element, relay.position()));
+        }));
+    }
+
+    private static void drive(final DoubleGenerator generator, final DoubleGenerator.Interrupt step) {
+        final boolean[] stop = {false};
+        generator.accept((element, index) -> stop[0] = stop[0] || step.test(element, index), (element, index) -> stop[0]);
+    }
+
+    private static double[] array(final DoubleGenerator generator) {
+        final double[][] buffer = {new double[16]};
+        final int[] size = {0};
+        generator.accept((element, index) -> {
+            if(size[0] == buffer[0].length){
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] << 1);
+            }
+            buffer[0][size[0]++] = element;
+        }, (element, index) -> false);
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    public static DoubleSemantic useFrom(final double... elements) {
+        Objects.requireNonNull(elements, "Elements could not be null.");
+        return new DoubleSemantic(Pipeline.useSplitter(elements.length, (from, to) -> (accept, interrupt) -> {
+            for(int index = from.intValue(); index < to; index++){
+                if(interrupt.test(elements[index], index)){
+                    break;
+                }
+                accept.accept(elements[index], index);
+            }
+        }));
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Comparator;
 
 public class DoubleStatistics <E> extends Statistics<E, Double>{
 
+    private final Column<E, Double, ?> column = new DoubleColumn<>(this.buffer, (value) -> value, 0D);
+
     protected DoubleStatistics(Generator<E> generator) {
         super(generator);
     }
@@ -12,6 +14,10 @@ public class DoubleStatistics <E> extends Statistics<E, Double>{
         super(generator, concurrent);
     }
 
+    protected DoubleStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected DoubleStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -74,4 +80,9 @@ public class DoubleStatistics <E> extends Statistics<E, Double>{
     public Double power(Double a, Double b) {
         return Math.pow(a, b);
     }
+
+    @Override
+    Column<E, Double, ?> column() {
+        return this.column;
+    }
 }
@@ -0,0 +1,59 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.concurrent.*;
+
+public interface ExecutionContext extends Executor {
+
+    public long parallelism();
+
+    public <T> Future<T> submit(Callable<T> task);
+
+    public default ForkJoinPool pool(){
+        return null;
+    }
+
+    public default void run(Runnable task){
+        ForkJoinPool pool = this.pool();
+        if(Objects.isNull(pool) || ForkJoinTask.getPool() == pool){
+            task.run();
+        }else{
+            pool.submit(task).join();
+        }
+    }
+
+    public static ExecutionContext useDefault(){
+        return ForkJoinContext.common;
+    }
+
+    public static ExecutionContext useCommon(){
+        return ForkJoinContext.common;
+    }
+
+    public static ExecutionContext useForkJoin(final ForkJoinPool pool){
+        Objects.requireNonNull(pool, "Pool could not be null.");
+        if(pool == ForkJoinPool.commonPool()){
+            return ForkJoinContext.common;
+        }
+        return new ForkJoinContext(pool);
+    }
+
+    public static ExecutionContext useExecutor(final Executor executor){
+        return useExecutor(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static ExecutionContext useExecutor(final Executor executor, final long parallelism){
+        Objects.requireNonNull(executor, "Executor could not be null.");
+        if(parallelism < 1){
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        if(executor instanceof ForkJoinPool pool){
+            return useForkJoin(pool);
+        }
+        return new ExecutorContext(executor, parallelism);
+    }
+
+    public static BoundedContext useBounded(final int threads, final int capacity){
+        return new BoundedContext(threads, capacity);
+    }
+}
@@ -0,0 +1,45 @@
+package pers.eloyhere.semantic;
+
+import java.util.concurrent.*;
+
+class ExecutorContext implements ExecutionContext {
+
+    private final Executor executor;
+
+    private final long parallelism;
+
+    private final ThreadLocal<Boolean> worker = ThreadLocal.withInitial(() -> false);
+
+    ExecutorContext(Executor executor, long parallelism) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public long parallelism() {
+        return this.parallelism;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        if(this.worker.get()){
+            future.run();
+            return future;
+        }
+        this.execute(future);
+        return future;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.executor.execute(() -> {
+            this.worker.set(true);
+            try{
+                command.run();
+            }finally{
+                this.worker.set(false);
+            }
+        });
+    }
+}
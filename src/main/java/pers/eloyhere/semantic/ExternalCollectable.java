@@ -0,0 +1,242 @@
+package pers.eloyhere.semantic;
+
+import java.io.*;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class ExternalCollectable<E> extends Collectable<E> implements AutoCloseable {
+
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private static final int fanIn = 64;
+
+    private final Comparator<E> comparator;
+
+    private final Codec<E> codec;
+
+    private final long parallelism;
+
+    private final Runs runs;
+
+    private final Cleaner.Cleanable cleanable;
+
+    private final E[] resident;
+
+    private final int residentSize;
+
+    private final long count;
+
+    protected ExternalCollectable(Generator<E> generator, final Comparator<E> comparator, final Codec<E> codec, final long budget) {
+        this(generator, comparator, codec, budget, 1L, null);
+    }
+
+    protected ExternalCollectable(Generator<E> generator, final Comparator<E> comparator, final Codec<E> codec, final long budget, final long concurrent) {
+        this(generator, comparator, codec, budget, concurrent, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected ExternalCollectable(Generator<E> generator, final Comparator<E> comparator, final Codec<E> codec, final long budget, final long concurrent, ExecutionContext context) {
+        super(1L, context);
+        Objects.requireNonNull(comparator, "Comparator could not be null.");
+        Objects.requireNonNull(codec, "Codec could not be null.");
+        if(budget < 1){
+            throw new IllegalArgumentException("Budget must be positive.");
+        }
+        this.comparator = comparator;
+        this.codec = codec;
+        this.parallelism = concurrent;
+        this.runs = new Runs();
+        this.cleanable = cleaner.register(this, this.runs);
+        int capacity = (int) Math.min(budget, Integer.MAX_VALUE - 8);
+        Object[][] chunk = {new Object[Math.min(capacity, 1024)]};
+        int[] size = {0};
+        long[] count = {0L};
+        generator.accept((element, index) -> {
+            if(size[0] == chunk[0].length){
+                if(size[0] == capacity){
+                    this.spill((E[]) chunk[0], size[0]);
+                    size[0] = 0;
+                }else{
+                    chunk[0] = Arrays.copyOf(chunk[0], (int) Math.min((long) size[0] << 1, capacity));
+                }
+            }
+            chunk[0][size[0]++] = element;
+            count[0]++;
+        }, (element, index) -> false);
+        this.resident = this.sort((E[]) chunk[0], size[0]);
+        this.residentSize = size[0];
+        this.count = count[0];
+        try{
+            while(this.runs.paths.size() > fanIn){
+                List<Path> group = new ArrayList<>(this.runs.paths.subList(0, fanIn));
+                Path path = this.create();
+                try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))){
+                    this.merge(group, null, 0, (element, index) -> {
+                        try{
+                            this.codec.encode(element, output);
+                        }catch (IOException exception){
+                            throw new UncheckedIOException(exception);
+                        }
+                    }, (element, index) -> false);
+                }
+                for(Path merged : group){
+                    Files.deleteIfExists(merged);
+                }
+                this.runs.paths.subList(0, fanIn).clear();
+                this.runs.paths.add(0, path);
+            }
+        }catch (IOException | UncheckedIOException exception){
+            this.close();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private E[] sort(E[] elements, int size) {
+        if(this.parallelism < 2){
+            Arrays.sort(elements, 0, size, this.comparator);
+        }else{
+            this.context.run(() -> Arrays.parallelSort(elements, 0, size, this.comparator));
+        }
+        return elements;
+    }
+
+    private Path create() throws IOException {
+        return Files.createTempFile("semantic", ".run");
+    }
+
+    private void spill(E[] chunk, int size) {
+        this.sort(chunk, size);
+        try{
+            Path path = this.create();
+            this.runs.paths.add(path);
+            try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))){
+                for(int position = 0; position < size; position++){
+                    this.codec.encode(chunk[position], output);
+                }
+            }
+            Arrays.fill(chunk, 0, size, null);
+        }catch (IOException exception){
+            this.close();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private void merge(List<Path> paths, E[] resident, int residentSize, IndexedSink.Consumer<E> accept, IndexedSink.Interrupt<E> interrupt) throws IOException {
+        List<DataInputStream> inputs = new ArrayList<>(paths.size());
+        try{
+            PriorityQueue<Cursor<E>> queue = new PriorityQueue<>(paths.size() + 1, (a, b) -> {
+                int result = this.comparator.compare(a.element, b.element);
+                return result != 0 ? result : Integer.compare(a.run, b.run);
+            });
+            for(Path path : paths){
+                DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+                inputs.add(input);
+                Cursor<E> cursor = new Cursor<>(inputs.size() - 1, input, null, 0);
+                if(cursor.advance(this.codec)){
+                    queue.add(cursor);
+                }
+            }
+            if(Objects.nonNull(resident)){
+                Cursor<E> cursor = new Cursor<>(inputs.size(), null, resident, residentSize);
+                if(cursor.advance(this.codec)){
+                    queue.add(cursor);
+                }
+            }
+            long index = 0;
+            while(!queue.isEmpty()){
+                Cursor<E> cursor = queue.poll();
+                E element = cursor.element;
+                if(interrupt.test(element, index)){
+                    break;
+                }
+                accept.accept(element, index);
+                index++;
+                if(cursor.advance(this.codec)){
+                    queue.add(cursor);
+                }
+            }
+        }finally{
+            for(DataInputStream input : inputs){
+                input.close();
+            }
+        }
+    }
+
+    @Override
+    public long count() {
+        return this.count;
+    }
+
+    @Override
+    public IndexedGenerator<E> source() {
+        return (sink) -> {
+            try{
+                this.merge(this.runs.paths, this.resident, this.residentSize, sink::accept, sink::test);
+            }catch (IOException exception){
+                throw new RuntimeException(exception);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        this.cleanable.clean();
+    }
+
+    private static final class Cursor<E> {
+
+        private final int run;
+
+        private final DataInputStream input;
+
+        private final E[] resident;
+
+        private final int limit;
+
+        private int position = 0;
+
+        private E element;
+
+        private Cursor(int run, DataInputStream input, E[] resident, int limit) {
+            this.run = run;
+            this.input = input;
+            this.resident = resident;
+            this.limit = limit;
+        }
+
+        private boolean advance(Codec<E> codec) throws IOException {
+            if(Objects.nonNull(this.resident)){
+                if(this.position == this.limit){
+                    return false;
+                }
+                this.element = this.resident[this.position++];
+                return true;
+            }
+            this.input.mark(1);
+            if(this.input.read() < 0){
+                return false;
+            }
+            this.input.reset();
+            this.element = codec.decode(this.input);
+            return true;
+        }
+    }
+
+    private static final class Runs implements Runnable {
+
+        private final List<Path> paths = new ArrayList<>();
+
+        @Override
+        public void run() {
+            for(Path path : this.paths){
+                try{
+                    Files.deleteIfExists(path);
+                }catch (IOException ignored){
+                }
+            }
+            this.paths.clear();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Comparator;
 
 public class FloatStatistics <E> extends Statistics<E, Float>{
 
+    private final Column<E, Float, ?> column = new DoubleColumn<>(this.buffer, (value) -> (float) value, 0F);
+
     protected FloatStatistics(Generator<E> generator) {
         super(generator);
     }
@@ -12,6 +14,10 @@ public class FloatStatistics <E> extends Statistics<E, Float>{
         super(generator, concurrent);
     }
 
+    protected FloatStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected FloatStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -74,4 +80,9 @@ public class FloatStatistics <E> extends Statistics<E, Float>{
     public Float power(Float a, Float b) {
         return (float) Math.pow(a, b);
     }
+
+    @Override
+    Column<E, Float, ?> column() {
+        return this.column;
+    }
 }
@@ -0,0 +1,129 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+final class FlowPublisher<E> implements Flow.Publisher<E> {
+
+    private final Generator<E> generator;
+
+    private final Executor executor;
+
+    FlowPublisher(Generator<E> generator, Executor executor) {
+        this.generator = generator;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber could not be null.");
+        subscriber.onSubscribe(new Subscription(subscriber));
+    }
+
+    private final class Subscription implements Flow.Subscription, ForkJoinPool.ManagedBlocker {
+
+        private final Flow.Subscriber<? super E> subscriber;
+
+        private long demand = 0L;
+
+        private boolean cancelled = false;
+
+        private boolean started = false;
+
+        private Throwable failure = null;
+
+        private Subscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            boolean start;
+            synchronized(this){
+                if(this.cancelled){
+                    return;
+                }
+                if(n <= 0){
+                    this.failure = new IllegalArgumentException("Request must be positive.");
+                    this.cancelled = true;
+                }else{
+                    this.demand = this.demand + n < 0 ? Long.MAX_VALUE : this.demand + n;
+                }
+                start = !this.started;
+                this.started = true;
+                this.notifyAll();
+            }
+            if(start){
+                FlowPublisher.this.executor.execute(this::run);
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            this.cancelled = true;
+            this.notifyAll();
+        }
+
+        @Override
+        public synchronized boolean isReleasable() {
+            return this.demand > 0 || this.cancelled;
+        }
+
+        @Override
+        public synchronized boolean block() throws InterruptedException {
+            while(this.demand == 0 && !this.cancelled){
+                this.wait();
+            }
+            return true;
+        }
+
+        private void emit(E element) {
+            try{
+                ForkJoinPool.managedBlock(this);
+            }catch (InterruptedException exception){
+                Thread.currentThread().interrupt();
+                this.cancel();
+            }
+            synchronized(this){
+                if(this.cancelled){
+                    return;
+                }
+                this.demand--;
+            }
+            this.subscriber.onNext(element);
+        }
+
+        private void run() {
+            try{
+                if(!this.isCancelled()){
+                    FlowPublisher.this.generator.accept((element, index) -> this.emit(element), (element, index) -> this.isCancelled());
+                }
+            }catch (Throwable throwable){
+                synchronized(this){
+                    if(Objects.isNull(this.failure)){
+                        this.failure = throwable;
+                    }
+                    this.cancelled = true;
+                }
+            }
+            Throwable failure;
+            boolean cancelled;
+            synchronized(this){
+                failure = this.failure;
+                cancelled = this.cancelled;
+                this.cancelled = true;
+            }
+            if(Objects.nonNull(failure)){
+                this.subscriber.onError(failure);
+            }else if(!cancelled){
+                this.subscriber.onComplete();
+            }
+        }
+
+        private synchronized boolean isCancelled() {
+            return this.cancelled;
+        }
+    }
+}
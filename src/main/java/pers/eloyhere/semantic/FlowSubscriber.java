@@ -0,0 +1,113 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+final class FlowSubscriber<E> implements Flow.Subscriber<E>, ForkJoinPool.ManagedBlocker {
+
+    private static final Object complete = new Object();
+
+    private final LinkedBlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+    private final long batch;
+
+    private volatile Flow.Subscription subscription;
+
+    private Object signal;
+
+    FlowSubscriber(long batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription could not be null.");
+        if(Objects.nonNull(this.subscription)){
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(this.batch);
+    }
+
+    @Override
+    public void onNext(E item) {
+        this.queue.offer(Objects.requireNonNull(item, "Item could not be null."));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.queue.offer(new Failure(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        this.queue.offer(complete);
+    }
+
+    @Override
+    public boolean isReleasable() {
+        return Objects.nonNull(this.signal) || Objects.nonNull(this.signal = this.queue.poll());
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+        if(Objects.isNull(this.signal)){
+            this.signal = this.queue.take();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    void drain(IndexedSink<E> sink) {
+        long refill = Math.max(1L, this.batch >>> 1);
+        long consumed = 0L;
+        long index = 0L;
+        while(true){
+            try{
+                ForkJoinPool.managedBlock(this);
+            }catch (InterruptedException exception){
+                Thread.currentThread().interrupt();
+                this.cancel();
+                throw new RuntimeException(exception);
+            }
+            Object signal = this.signal;
+            this.signal = null;
+            if(signal == complete){
+                return;
+            }
+            if(signal instanceof Failure failure){
+                throw new RuntimeException(failure.throwable);
+            }
+            E element = (E) signal;
+            if(sink.test(element, index)){
+                this.cancel();
+                return;
+            }
+            sink.accept(element, index);
+            index++;
+            if(++consumed == refill){
+                consumed = 0L;
+                this.subscription.request(refill);
+            }
+        }
+    }
+
+    private void cancel() {
+        Flow.Subscription subscription = this.subscription;
+        if(Objects.nonNull(subscription)){
+            subscription.cancel();
+        }
+    }
+
+    private static final class Failure {
+
+        private final Throwable throwable;
+
+        private Failure(Throwable throwable) {
+            this.throwable = throwable;
+        }
+    }
+}
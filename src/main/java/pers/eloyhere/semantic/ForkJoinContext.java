@@ -0,0 +1,37 @@
+package pers.eloyhere.semantic;
+
+import java.util.concurrent.*;
+
+class ForkJoinContext implements ExecutionContext {
+
+    static final ForkJoinContext common = new ForkJoinContext(ForkJoinPool.commonPool());
+
+    private final ForkJoinPool pool;
+
+    ForkJoinContext(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public long parallelism() {
+        return this.pool.getParallelism();
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        if(ForkJoinTask.getPool() == this.pool){
+            return ForkJoinTask.adapt(task).fork();
+        }
+        return this.pool.submit(task);
+    }
+
+    @Override
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.pool.execute(command);
+    }
+}
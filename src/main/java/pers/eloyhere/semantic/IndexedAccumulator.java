@@ -1,5 +1,10 @@
 package pers.eloyhere.semantic;
 
-public interface IndexedAccumulator <A, E> {
+public interface IndexedAccumulator <A, E> extends PrimitiveIndexedAccumulator<A, E> {
     public A apply(A a, E e, Long index);
+
+    @Override
+    public default A apply(A a, E e, long index) {
+        return this.apply(a, e, Long.valueOf(index));
+    }
 }
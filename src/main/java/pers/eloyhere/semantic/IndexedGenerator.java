@@ -0,0 +1,22 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public interface IndexedGenerator<T> extends Generator<T> {
+
+    public void generate(IndexedSink<T> sink);
+
+    @Override
+    public default void accept(BiConsumer<T, Long> accept, BiPredicate<T, Long> interrupt) {
+        this.generate(IndexedSink.useBoxed(accept, interrupt));
+    }
+
+    public static <T> IndexedGenerator<T> useGenerator(final Generator<T> generator){
+        Objects.requireNonNull(generator, "Generator could not be null.");
+        if(generator instanceof IndexedGenerator<T> indexed){
+            return indexed;
+        }
+        return (sink) -> generator.accept(sink::accept, sink::test);
+    }
+}
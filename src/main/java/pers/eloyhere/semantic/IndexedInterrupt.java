@@ -1,5 +1,10 @@
 package pers.eloyhere.semantic;
 
-public interface IndexedInterrupt<A, E> {
+public interface IndexedInterrupt<A, E> extends PrimitiveIndexedInterrupt<A, E> {
     public boolean test(A a, E e, Long index);
+
+    @Override
+    public default boolean test(A a, E e, long index) {
+        return this.test(a, e, Long.valueOf(index));
+    }
 }
@@ -0,0 +1,5 @@
+package pers.eloyhere.semantic;
+
+public interface IndexedMutator <A, E> {
+    public void accept(A a, E e, long index);
+}
@@ -0,0 +1,51 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public interface IndexedSink<T> {
+
+    public void accept(T element, long index);
+
+    public boolean test(T element, long index);
+
+    public interface Consumer<T> {
+        public void accept(T element, long index);
+    }
+
+    public interface Interrupt<T> {
+        public boolean test(T element, long index);
+    }
+
+    public static <T> IndexedSink<T> useSink(final IndexedSink.Consumer<T> accept, final IndexedSink.Interrupt<T> interrupt){
+        Objects.requireNonNull(accept, "Accept could not be null.");
+        Objects.requireNonNull(interrupt, "Interrupt could not be null.");
+        return new IndexedSink<>() {
+            @Override
+            public void accept(T element, long index) {
+                accept.accept(element, index);
+            }
+
+            @Override
+            public boolean test(T element, long index) {
+                return interrupt.test(element, index);
+            }
+        };
+    }
+
+    public static <T> IndexedSink<T> useBoxed(final BiConsumer<T, Long> accept, final BiPredicate<T, Long> interrupt){
+        Objects.requireNonNull(accept, "Accept could not be null.");
+        Objects.requireNonNull(interrupt, "Interrupt could not be null.");
+        return new IndexedSink<>() {
+            @Override
+            public void accept(T element, long index) {
+                accept.accept(element, index);
+            }
+
+            @Override
+            public boolean test(T element, long index) {
+                return interrupt.test(element, index);
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package pers.eloyhere.semantic;
+
+public interface IntGenerator {
+
+    public void accept(IntGenerator.Consumer accept, IntGenerator.Interrupt interrupt);
+
+    public interface Consumer {
+        public void accept(int element, long index);
+    }
+
+    public interface Interrupt {
+        public boolean test(int element, long index);
+    }
+}
@@ -0,0 +1,222 @@
+package pers.eloyhere.semantic;
+
+import java.util.*;
+import java.util.function.*;
+
+public class IntSemantic extends PrimitiveSemantic<IntGenerator, IntSemantic> {
+
+    public IntSemantic(IntGenerator generator) {
+        this(Pipeline.useGenerator(generator));
+    }
+
+    IntSemantic(Pipeline<IntGenerator> pipeline) {
+        super(pipeline);
+    }
+
+    @Override
+    IntSemantic wrap(Pipeline<IntGenerator> pipeline) {
+        return new IntSemantic(pipeline);
+    }
+
+    public IntSemantic filter(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "Predicate could not be null.");
+        return new IntSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> {
+            generator.accept((element, index) -> {
+                if (predicate.test(element)) {
+                    accept.accept(element, index);
+                }
+            }, interrupt);
+        }));
+    }
+
+    public IntSemantic limit(final long n) {
+        return this.relay(Relay.useLimit(n));
+    }
+
+    public IntSemantic map(final IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new IntSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardInt(accept, interrupt, mapper.applyAsInt(element), index))));
+    }
+
+    public LongSemantic mapToLong(final IntToLongFunction mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new LongSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardLong(accept, interrupt, mapper.applyAsLong(element), index))));
+    }
+
+    public DoubleSemantic mapToDouble(final IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new DoubleSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardDouble(accept, interrupt, mapper.applyAsDouble(element), index))));
+    }
+
+    public <R> Semantic<R> mapToObject(final IntFunction<R> mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new Semantic<>(this.pipeline.boxed((generator) -> (sink) -> drive(generator, (element, index) -> Relay.forward(sink, mapper.apply(element), index))), this.pipeline.concurrent, this.pipeline.context);
+    }
+
+    public Semantic<Integer> boxed() {
+        return this.mapToObject((element) -> element);
+    }
+
+    public IntSemantic peek(final IntConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return new IntSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> {
+            generator.accept((element, index) -> {
+                consumer.accept(element);
+                accept.accept(element, index);
+            }, interrupt);
+        }));
+    }
+
+    public IntSemantic skip(final long n) {
+        return this.relay(Relay.useSkip(n));
+    }
+
+    public long count() {
+        return this.forEach((element) -> {});
+    }
+
+    public long forEach(final IntConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return this.pipeline.collect(() -> new long[1], (count, generator) -> generator.accept((element, index) -> {
+            consumer.accept(element);
+            count[0]++;
+        }, (element, index) -> false), (a, b) -> a[0] += b[0])[0];
+    }
+
+    public int reduce(final int identity, final IntBinaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        return this.pipeline.collect(() -> new int[]{identity}, (accumulator, generator) -> generator.accept((element, index) -> {
+            accumulator[0] = operator.applyAsInt(accumulator[0], element);
+        }, (element, index) -> false), (a, b) -> a[0] = operator.applyAsInt(a[0], b[0]))[0];
+    }
+
+    public OptionalInt reduce(final IntBinaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        int[] accumulator = this.pipeline.collect(() -> new int[2], (a, generator) -> generator.accept((element, index) -> {
+            a[0] = a[1] == 0 ? element : operator.applyAsInt(a[0], element);
+            a[1] = 1;
+        }, (element, index) -> false), (a, b) -> {
+            if(b[1] != 0){
+                a[0] = a[1] == 0 ? b[0] : operator.applyAsInt(a[0], b[0]);
+                a[1] = 1;
+            }
+        });
+        return accumulator[1] == 0 ? OptionalInt.empty() : OptionalInt.of(accumulator[0]);
+    }
+
+    public int summate() {
+        return this.reduce(0, Integer::sum);
+    }
+
+    public OptionalDouble average() {
+        long[] summate = this.pipeline.collect(() -> new long[2], (a, generator) -> generator.accept((element, index) -> {
+            a[0] += element;
+            a[1]++;
+        }, (element, index) -> false), (a, b) -> {
+            a[0] += b[0];
+            a[1] += b[1];
+        });
+        if(summate[1] == 0L){
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) summate[0] / summate[1]);
+    }
+
+    public OptionalInt findMaximum() {
+        return this.reduce(Integer::max);
+    }
+
+    public OptionalInt findMinimum() {
+        return this.reduce(Integer::min);
+    }
+
+    public int[] toArray() {
+        return this.pipeline.toArray(IntSemantic::array, int[]::new);
+    }
+
+    private IntSemantic relay(final Relay template) {
+        IntGenerator generator = this.generator;
+        return new IntSemantic(this.pipeline.chain((accept, interrupt) -> {
+            Relay relay = template.copy();
+            generator.accept((element, index) -> {
+                long position = relay.position();
+                if(relay.admit()){
+                    accept.accept(element, position);
+                }
+            }, (element, index) -> relay.halted() || relay.open() && interrupt.test(element, relay.position()));
+        }));
+    }
+
+    private static void drive(final IntGenerator generator, final IntGenerator.Interrupt step) {
+        final boolean[] stop = {false};
+        generator.accept((element, index) -> stop[0] = stop[0] || step.test(element, index), (element, index) -> stop[0]);
+    }
+
+    private static int[] array(final IntGenerator generator) {
+        final int[][] buffer = {new int[16]};
+        final int[] size = {0};
+        generator.accept((element, index) -> {
+            if(size[0] == buffer[0].length){
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] << 1);
+            }
+            buffer[0][size[0]++] = element;
+        }, (element, index) -> false);
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    public static IntSemantic useRange(final int start, final int end) {
+        final int minimum = Math.min(start, end);
+        final int maximum = Math.max(start, end);
+        return new IntSemantic(Pipeline.useSplitter((long) maximum - minimum, (from, to) -> (accept, interrupt) -> {
+            for(long index = from; index < to; index++){
+                int element = (int) (minimum + index);
+                if(interrupt.test(element, index)){
+                    break;
+                }
+                accept.accept(element, index);
+            }
+        }));
+    }
+
+    public static IntSemantic useRange(final int start, final int end, final int step) {
+        final int minimum = Math.min(start, end);
+        final int maximum = Math.max(start, end);
+        final long gap = Math.max(1L, Math.abs((long) step));
+        return new IntSemantic(Pipeline.useSplitter(((long) maximum - minimum + gap - 1L) / gap, (from, to) -> (accept, interrupt) -> {
+            for(long index = from; index < to; index++){
+                int element = (int) (minimum + index * gap);
+                if(interrupt.test(element, index)){
+                    break;
+                }
+                accept.accept(element, index);
+            }
+        }));
+    }
+
+    public static IntSemantic useFrom(final int... elements) {
+        Objects.requireNonNull(elements, "Elements could not be null.");
+        return new IntSemantic(Pipeline.useSplitter(elements.length, (from, to) -> (accept, interrupt) -> {
+            for(int index = from.intValue(); index < to; index++){
+                if(interrupt.test(elements[index], index)){
+                    break;
+                }
+                accept.accept(elements[index], index);
+            }
+        }));
+    }
+
+    public static IntSemantic useCodePoint(final CharSequence text) {
+        Objects.requireNonNull(text, "Text could not be null.");
+        return new IntSemantic((accept, interrupt) -> {
+            long index = 0;
+            for(int position = 0; position < text.length(); index++){
+                int point = Character.codePointAt(text, position);
+                if(interrupt.test(point, index)){
+                    break;
+                }
+                accept.accept(point, index);
+                position += Character.charCount(point);
+            }
+        });
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Comparator;
 
 public class IntStatistics <E> extends Statistics<E, Integer>{
 
+    private final Column<E, Integer, ?> column = new LongColumn<>(this.buffer, (value) -> (int) value, 0);
+
     protected IntStatistics(Generator<E> generator) {
         super(generator);
     }
@@ -12,6 +14,10 @@ public class IntStatistics <E> extends Statistics<E, Integer>{
         super(generator, concurrent);
     }
 
+    protected IntStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected IntStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -75,5 +81,8 @@ public class IntStatistics <E> extends Statistics<E, Integer>{
         return (int) Math.pow(a, b);
     }
 
-
+    @Override
+    Column<E, Integer, ?> column() {
+        return this.column;
+    }
 }
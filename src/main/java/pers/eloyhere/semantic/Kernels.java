@@ -0,0 +1,319 @@
+package pers.eloyhere.semantic;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+final class Kernels {
+
+    private Kernels() {
+    }
+
+    static double summate(double[] values) {
+        double a = 0.0, b = 0.0, c = 0.0, d = 0.0;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            a += values[index];
+            b += values[index + 1];
+            c += values[index + 2];
+            d += values[index + 3];
+        }
+        for(; index < values.length; index++){
+            a += values[index];
+        }
+        return (a + b) + (c + d);
+    }
+
+    static long summate(long[] values) {
+        long a = 0L, b = 0L, c = 0L, d = 0L;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            a += values[index];
+            b += values[index + 1];
+            c += values[index + 2];
+            d += values[index + 3];
+        }
+        for(; index < values.length; index++){
+            a += values[index];
+        }
+        return (a + b) + (c + d);
+    }
+
+    static double deviation(double[] values, double mean) {
+        double a = 0.0, b = 0.0, c = 0.0, d = 0.0;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            double x = values[index] - mean;
+            double y = values[index + 1] - mean;
+            double z = values[index + 2] - mean;
+            double w = values[index + 3] - mean;
+            a += x * x;
+            b += y * y;
+            c += z * z;
+            d += w * w;
+        }
+        for(; index < values.length; index++){
+            double x = values[index] - mean;
+            a += x * x;
+        }
+        return (a + b) + (c + d);
+    }
+
+    static long deviation(long[] values, long mean) {
+        long a = 0L, b = 0L, c = 0L, d = 0L;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            long x = values[index] - mean;
+            long y = values[index + 1] - mean;
+            long z = values[index + 2] - mean;
+            long w = values[index + 3] - mean;
+            a += x * x;
+            b += y * y;
+            c += z * z;
+            d += w * w;
+        }
+        for(; index < values.length; index++){
+            long x = values[index] - mean;
+            a += x * x;
+        }
+        return (a + b) + (c + d);
+    }
+
+    static double minimum(double[] values) {
+        double a = values[0], b = a, c = a, d = a;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            a = Math.min(a, values[index]);
+            b = Math.min(b, values[index + 1]);
+            c = Math.min(c, values[index + 2]);
+            d = Math.min(d, values[index + 3]);
+        }
+        for(; index < values.length; index++){
+            a = Math.min(a, values[index]);
+        }
+        return Math.min(Math.min(a, b), Math.min(c, d));
+    }
+
+    static double maximum(double[] values) {
+        double a = values[0], b = a, c = a, d = a;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            a = Math.max(a, values[index]);
+            b = Math.max(b, values[index + 1]);
+            c = Math.max(c, values[index + 2]);
+            d = Math.max(d, values[index + 3]);
+        }
+        for(; index < values.length; index++){
+            a = Math.max(a, values[index]);
+        }
+        return Math.max(Math.max(a, b), Math.max(c, d));
+    }
+
+    static long minimum(long[] values) {
+        long a = values[0], b = a, c = a, d = a;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            a = Math.min(a, values[index]);
+            b = Math.min(b, values[index + 1]);
+            c = Math.min(c, values[index + 2]);
+            d = Math.min(d, values[index + 3]);
+        }
+        for(; index < values.length; index++){
+            a = Math.min(a, values[index]);
+        }
+        return Math.min(Math.min(a, b), Math.min(c, d));
+    }
+
+    static long maximum(long[] values) {
+        long a = values[0], b = a, c = a, d = a;
+        int index = 0;
+        int bound = values.length & ~3;
+        for(; index < bound; index += 4){
+            a = Math.max(a, values[index]);
+            b = Math.max(b, values[index + 1]);
+            c = Math.max(c, values[index + 2]);
+            d = Math.max(d, values[index + 3]);
+        }
+        for(; index < values.length; index++){
+            a = Math.max(a, values[index]);
+        }
+        return Math.max(Math.max(a, b), Math.max(c, d));
+    }
+
+    static int[] order(long[] keys, int size) {
+        int[] order = new int[size];
+        int[] merged = new int[size];
+        for(int position = 0; position < size; position++){
+            order[position] = position;
+        }
+        for(int width = 1; width < size; width <<= 1){
+            for(int low = 0; low < size; low += width << 1){
+                int middle = Math.min(low + width, size);
+                int high = Math.min(low + (width << 1), size);
+                int left = low;
+                int right = middle;
+                for(int position = low; position < high; position++){
+                    if(left < middle && (right >= high || keys[order[left]] <= keys[order[right]])){
+                        merged[position] = order[left++];
+                    }else{
+                        merged[position] = order[right++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = merged;
+            merged = swap;
+        }
+        return order;
+    }
+
+    static long[] permute(long[] values, int[] order) {
+        long[] result = new long[order.length];
+        for(int position = 0; position < order.length; position++){
+            result[position] = values[order[position]];
+        }
+        return result;
+    }
+
+    static Object[] permute(Object[] values, int[] order) {
+        Object[] result = new Object[order.length];
+        for(int position = 0; position < order.length; position++){
+            result[position] = values[order[position]];
+        }
+        return result;
+    }
+
+    static void select(double[] values, int[] ranks) {
+        new Selection() {
+            @Override
+            int compare(int a, int b) {
+                return Double.compare(values[a], values[b]);
+            }
+
+            @Override
+            void swap(int a, int b) {
+                double value = values[a];
+                values[a] = values[b];
+                values[b] = value;
+            }
+
+            @Override
+            void sort(int from, int to) {
+                Arrays.sort(values, from, to);
+            }
+        }.select(values.length, ranks);
+    }
+
+    static void select(long[] values, int[] ranks) {
+        new Selection() {
+            @Override
+            int compare(int a, int b) {
+                return Long.compare(values[a], values[b]);
+            }
+
+            @Override
+            void swap(int a, int b) {
+                long value = values[a];
+                values[a] = values[b];
+                values[b] = value;
+            }
+
+            @Override
+            void sort(int from, int to) {
+                Arrays.sort(values, from, to);
+            }
+        }.select(values.length, ranks);
+    }
+
+    static <T> void select(T[] values, int[] ranks, Comparator<? super T> comparator) {
+        new Selection() {
+            @Override
+            int compare(int a, int b) {
+                return comparator.compare(values[a], values[b]);
+            }
+
+            @Override
+            void swap(int a, int b) {
+                T value = values[a];
+                values[a] = values[b];
+                values[b] = value;
+            }
+
+            @Override
+            void sort(int from, int to) {
+                Arrays.sort(values, from, to, comparator);
+            }
+        }.select(values.length, ranks);
+    }
+
+    /**
+     * Introselect over positions, so one driver serves every element type. Each pass partitions three ways around
+     * a median-of-three pivot, hands the ranks below the pivot band to a recursive call and loops on the ranks
+     * above it; ranks inside the band are already in place. Small or too-deep ranges are sorted outright.
+     */
+    private abstract static class Selection {
+
+        abstract int compare(int a, int b);
+
+        abstract void swap(int a, int b);
+
+        abstract void sort(int from, int to);
+
+        final void select(int length, int[] ranks) {
+            int[] sorted = ranks.clone();
+            Arrays.sort(sorted);
+            this.select(0, length, sorted, 0, sorted.length, depth(length));
+        }
+
+        private void select(int from, int to, int[] ranks, int low, int high, int depth) {
+            while(low < high){
+                if(to - from <= 16 || depth-- == 0){
+                    this.sort(from, to);
+                    return;
+                }
+                this.swap(from, this.median(from, (from + to) >>> 1, to - 1));
+                int less = from, index = from + 1, greater = to;
+                while(index < greater){
+                    int order = this.compare(index, less);
+                    if(order < 0){
+                        this.swap(less++, index++);
+                    }else if(order > 0){
+                        this.swap(index, --greater);
+                    }else{
+                        index++;
+                    }
+                }
+                int left = low;
+                while(left < high && ranks[left] < less){
+                    left++;
+                }
+                int right = left;
+                while(right < high && ranks[right] < greater){
+                    right++;
+                }
+                if(left > low){
+                    this.select(from, less, ranks, low, left, depth);
+                }
+                from = greater;
+                low = right;
+            }
+        }
+
+        private int median(int a, int b, int c) {
+            if(this.compare(a, b) < 0){
+                return this.compare(b, c) < 0 ? b : this.compare(a, c) < 0 ? c : a;
+            }
+            return this.compare(a, c) < 0 ? a : this.compare(b, c) < 0 ? c : b;
+        }
+    }
+
+    private static int depth(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+}
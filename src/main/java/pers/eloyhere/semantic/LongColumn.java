@@ -0,0 +1,64 @@
+package pers.eloyhere.semantic;
+
+import java.util.function.LongFunction;
+
+final class LongColumn<E, D extends Number> extends Column<E, D, long[]> {
+
+    private final LongFunction<D> narrow;
+
+    LongColumn(E[] buffer, LongFunction<D> narrow, D zero) {
+        super(buffer, zero);
+        this.narrow = narrow;
+    }
+
+    @Override
+    long[] allocate(int length) {
+        return new long[length];
+    }
+
+    @Override
+    void store(long[] values, int index, Number value) {
+        values[index] = value.longValue();
+    }
+
+    @Override
+    long[] copy(long[] values) {
+        return values.clone();
+    }
+
+    @Override
+    D narrow(long[] values, int index) {
+        return this.narrow.apply(values[index]);
+    }
+
+    @Override
+    D total(long[] values) {
+        return this.narrow.apply(Kernels.summate(values));
+    }
+
+    @Override
+    D mean(long[] values) {
+        return this.narrow.apply(Kernels.summate(values) / values.length);
+    }
+
+    @Override
+    D spread(long[] values) {
+        long mean = Kernels.summate(values) / values.length;
+        return this.narrow.apply(Kernels.deviation(values, mean) / (values.length - 1));
+    }
+
+    @Override
+    D least(long[] values) {
+        return this.narrow.apply(Kernels.minimum(values));
+    }
+
+    @Override
+    D greatest(long[] values) {
+        return this.narrow.apply(Kernels.maximum(values));
+    }
+
+    @Override
+    void rank(long[] values, int[] ranks) {
+        Kernels.select(values, ranks);
+    }
+}
@@ -0,0 +1,14 @@
+package pers.eloyhere.semantic;
+
+public interface LongGenerator {
+
+    public void accept(LongGenerator.Consumer accept, LongGenerator.Interrupt interrupt);
+
+    public interface Consumer {
+        public void accept(long element, long index);
+    }
+
+    public interface Interrupt {
+        public boolean test(long element, long index);
+    }
+}
@@ -0,0 +1,216 @@
+package pers.eloyhere.semantic;
+
+import java.util.*;
+import java.util.function.LongFunction;
+
+final class LongMap<V> extends AbstractMap<Long, V> {
+
+    private static final Object nil = new Object();
+
+    private long base = 0L;
+
+    private Object[] dense = new Object[16];
+
+    private long[] keys = null;
+
+    private Object[] values = null;
+
+    private int size = 0;
+
+    interface Visitor<V> {
+        boolean visit(long key, V value);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long value && Objects.nonNull(this.find(value));
+    }
+
+    @Override
+    public V get(Object key) {
+        return key instanceof Long value ? this.get(value.longValue()) : null;
+    }
+
+    @Override
+    public V put(Long key, V value) {
+        V previous = this.get(key.longValue());
+        this.put(key.longValue(), value);
+        return previous;
+    }
+
+    @Override
+    public Set<Entry<Long, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Long, V>> iterator() {
+                List<Entry<Long, V>> entries = new ArrayList<>(LongMap.this.size);
+                LongMap.this.visit((key, value) -> {
+                    entries.add(new SimpleImmutableEntry<>(key, value));
+                    return false;
+                });
+                return Collections.unmodifiableList(entries).iterator();
+            }
+
+            @Override
+            public int size() {
+                return LongMap.this.size;
+            }
+        };
+    }
+
+    V get(long key) {
+        return unwrap(this.find(key));
+    }
+
+    private Object find(long key) {
+        if(Objects.isNull(this.keys)){
+            long offset = key - this.base;
+            return offset >= 0 && offset < this.size ? this.dense[(int) offset] : null;
+        }
+        int mask = this.keys.length - 1;
+        for(int slot = mix(key) & mask; this.values[slot] != null; slot = (slot + 1) & mask){
+            if(this.keys[slot] == key){
+                return this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    void put(long key, V value) {
+        if(Objects.isNull(this.keys)){
+            if(this.size == 0){
+                this.base = key;
+            }
+            long offset = key - this.base;
+            if(offset >= 0 && offset < this.size){
+                this.dense[(int) offset] = wrap(value);
+                return;
+            }
+            if(offset == this.size && this.size < Integer.MAX_VALUE - 8){
+                if(this.size == this.dense.length){
+                    this.dense = Arrays.copyOf(this.dense, (int) Math.min((long) this.size << 1, Integer.MAX_VALUE - 8));
+                }
+                this.dense[this.size++] = wrap(value);
+                return;
+            }
+            this.scatter();
+        }
+        this.insert(key, wrap(value));
+    }
+
+    V computeIfAbsent(long key, LongFunction<V> mapping) {
+        V value = this.get(key);
+        if(Objects.isNull(value)){
+            value = mapping.apply(key);
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    void putAll(LongMap<V> other) {
+        other.visit((key, value) -> {
+            this.put(key, value);
+            return false;
+        });
+    }
+
+    long[] keys() {
+        long[] result = new long[this.size];
+        int[] position = {0};
+        this.visit((key, value) -> {
+            result[position[0]++] = key;
+            return false;
+        });
+        return result;
+    }
+
+    boolean visit(Visitor<V> visitor) {
+        if(Objects.isNull(this.keys)){
+            for(int offset = 0; offset < this.size; offset++){
+                if(visitor.visit(this.base + offset, unwrap(this.dense[offset]))){
+                    return true;
+                }
+            }
+            return false;
+        }
+        for(int slot = 0; slot < this.keys.length; slot++){
+            if(this.values[slot] != null && visitor.visit(this.keys[slot], unwrap(this.values[slot]))){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scatter() {
+        Object[] dense = this.dense;
+        int count = this.size;
+        this.keys = new long[capacity(count + 1)];
+        this.values = new Object[this.keys.length];
+        this.size = 0;
+        for(int offset = 0; offset < count; offset++){
+            this.insert(this.base + offset, dense[offset]);
+        }
+        this.dense = null;
+    }
+
+    private void insert(long key, Object value) {
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        for(; this.values[slot] != null; slot = (slot + 1) & mask){
+            if(this.keys[slot] == key){
+                this.values[slot] = value;
+                return;
+            }
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        if(++this.size > (this.keys.length >>> 1) + (this.keys.length >>> 2)){
+            this.rehash();
+        }
+    }
+
+    private void rehash() {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        this.keys = new long[keys.length << 1];
+        this.values = new Object[keys.length << 1];
+        int mask = this.keys.length - 1;
+        for(int slot = 0; slot < keys.length; slot++){
+            if(values[slot] != null){
+                int target = mix(keys[slot]) & mask;
+                while(this.values[target] != null){
+                    target = (target + 1) & mask;
+                }
+                this.keys[target] = keys[slot];
+                this.values[target] = values[slot];
+            }
+        }
+    }
+
+    private static int capacity(int expected) {
+        int capacity = 16;
+        while(capacity < Integer.MAX_VALUE >>> 1 && (capacity >>> 1) + (capacity >>> 2) < expected){
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static Object wrap(Object value) {
+        return Objects.isNull(value) ? nil : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unwrap(Object value) {
+        return value == nil ? null : (V) value;
+    }
+}
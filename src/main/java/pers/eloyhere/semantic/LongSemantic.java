@@ -0,0 +1,207 @@
+package pers.eloyhere.semantic;
+
+import java.util.*;
+import java.util.function.*;
+
+public class LongSemantic extends PrimitiveSemantic<LongGenerator, LongSemantic> {
+
+    public LongSemantic(LongGenerator generator) {
+        this(Pipeline.useGenerator(generator));
+    }
+
+    LongSemantic(Pipeline<LongGenerator> pipeline) {
+        super(pipeline);
+    }
+
+    @Override
+    LongSemantic wrap(Pipeline<LongGenerator> pipeline) {
+        return new LongSemantic(pipeline);
+    }
+
+    public LongSemantic filter(final LongPredicate predicate) {
+        Objects.requireNonNull(predicate, "Predicate could not be null.");
+        return new LongSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> {
+            generator.accept((element, index) -> {
+                if (predicate.test(element)) {
+                    accept.accept(element, index);
+                }
+            }, interrupt);
+        }));
+    }
+
+    public LongSemantic limit(final long n) {
+        return this.relay(Relay.useLimit(n));
+    }
+
+    public LongSemantic map(final LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new LongSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardLong(accept, interrupt, mapper.applyAsLong(element), index))));
+    }
+
+    public IntSemantic mapToInt(final LongToIntFunction mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new IntSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardInt(accept, interrupt, mapper.applyAsInt(element), index))));
+    }
+
+    public DoubleSemantic mapToDouble(final LongToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new DoubleSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardDouble(accept, interrupt, mapper.applyAsDouble(element), index))));
+    }
+
+    public <R> Semantic<R> mapToObject(final LongFunction<R> mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new Semantic<>(this.pipeline.boxed((generator) -> (sink) -> drive(generator, (element, index) -> Relay.forward(sink, mapper.apply(element), index))), this.pipeline.concurrent, this.pipeline.context);
+    }
+
+    public Semantic<Long> boxed() {
+        return this.mapToObject((element) -> element);
+    }
+
+    public LongSemantic peek(final LongConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return new LongSemantic(this.pipeline.derive((generator) -> (accept, interrupt) -> {
+            generator.accept((element, index) -> {
+                consumer.accept(element);
+                accept.accept(element, index);
+            }, interrupt);
+        }));
+    }
+
+    public LongSemantic skip(final long n) {
+        return this.relay(Relay.useSkip(n));
+    }
+
+    public long count() {
+        return this.forEach((element) -> {});
+    }
+
+    public long forEach(final LongConsumer consumer) {
+        Objects.requireNonNull(consumer, "Consumer could not be null.");
+        return this.pipeline.collect(() -> new long[1], (count, generator) -> generator.accept((element, index) -> {
+            consumer.accept(element);
+            count[0]++;
+        }, (element, index) -> false), (a, b) -> a[0] += b[0])[0];
+    }
+
+    public long reduce(final long identity, final LongBinaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        return this.pipeline.collect(() -> new long[]{identity}, (accumulator, generator) -> generator.accept((element, index) -> {
+            accumulator[0] = operator.applyAsLong(accumulator[0], element);
+        }, (element, index) -> false), (a, b) -> a[0] = operator.applyAsLong(a[0], b[0]))[0];
+    }
+
+    public OptionalLong reduce(final LongBinaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        long[] accumulator = this.pipeline.collect(() -> new long[2], (a, generator) -> generator.accept((element, index) -> {
+            a[0] = a[1] == 0L ? element : operator.applyAsLong(a[0], element);
+            a[1] = 1L;
+        }, (element, index) -> false), (a, b) -> {
+            if(b[1] != 0L){
+                a[0] = a[1] == 0L ? b[0] : operator.applyAsLong(a[0], b[0]);
+                a[1] = 1L;
+            }
+        });
+        return accumulator[1] == 0L ? OptionalLong.empty() : OptionalLong.of(accumulator[0]);
+    }
+
+    public long summate() {
+        return this.reduce(0L, Long::sum);
+    }
+
+    public OptionalDouble average() {
+        long[] summate = this.pipeline.collect(() -> new long[2], (a, generator) -> generator.accept((element, index) -> {
+            a[0] += element;
+            a[1]++;
+        }, (element, index) -> false), (a, b) -> {
+            a[0] += b[0];
+            a[1] += b[1];
+        });
+        if(summate[1] == 0L){
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) summate[0] / summate[1]);
+    }
+
+    public OptionalLong findMaximum() {
+        return this.reduce(Long::max);
+    }
+
+    public OptionalLong findMinimum() {
+        return this.reduce(Long::min);
+    }
+
+    public long[] toArray() {
+        return this.pipeline.toArray(LongSemantic::array, long[]::new);
+    }
+
+    private LongSemantic relay(final Relay template) {
+        LongGenerator generator = this.generator;
+        return new LongSemantic(this.pipeline.chain((accept, interrupt) -> {
+            Relay relay = template.copy();
+            generator.accept((element, index) -> {
+                long position = relay.position();
+                if(relay.admit()){
+                    accept.accept(element, position);
+                }
+            }, (element, index) -> relay.halted() || relay.open() && interrupt.test(element, relay.position()));
+        }));
+    }
+
+    private static void drive(final LongGenerator generator, final LongGenerator.Interrupt step) {
+        final boolean[] stop = {false};
+        generator.accept((element, index) -> stop[0] = stop[0] || step.test(element, index), (element, index) -> stop[0]);
+    }
+
+    private static long[] array(final LongGenerator generator) {
+        final long[][] buffer = {new long[16]};
+        final int[] size = {0};
+        generator.accept((element, index) -> {
+            if(size[0] == buffer[0].length){
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] << 1);
+            }
+            buffer[0][size[0]++] = element;
+        }, (element, index) -> false);
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    public static LongSemantic useRange(final long start, final long end) {
+        final long minimum = Math.min(start, end);
+        final long maximum = Math.max(start, end);
+        return new LongSemantic(Pipeline.useSplitter(maximum - minimum, (from, to) -> (accept, interrupt) -> {
+            for(long index = from; index < to; index++){
+                long element = minimum + index;
+                if(interrupt.test(element, index)){
+                    break;
+                }
+                accept.accept(element, index);
+            }
+        }));
+    }
+
+    public static LongSemantic useRange(final long start, final long end, final long step) {
+        final long minimum = Math.min(start, end);
+        final long maximum = Math.max(start, end);
+        final long gap = Math.max(1, Math.abs(step));
+        return new LongSemantic(Pipeline.useSplitter((maximum - minimum + gap - 1L) / gap, (from, to) -> (accept, interrupt) -> {
+            for(long index = from; index < to; index++){
+                long element = minimum + index * gap;
+                if(interrupt.test(element, index)){
+                    break;
+                }
+                accept.accept(element, index);
+            }
+        }));
+    }
+
+    public static LongSemantic useFrom(final long... elements) {
+        Objects.requireNonNull(elements, "Elements could not be null.");
+        return new LongSemantic(Pipeline.useSplitter(elements.length, (from, to) -> (accept, interrupt) -> {
+            for(int index = from.intValue(); index < to; index++){
+                if(interrupt.test(elements[index], index)){
+                    break;
+                }
+                accept.accept(elements[index], index);
+            }
+        }));
+    }
+}
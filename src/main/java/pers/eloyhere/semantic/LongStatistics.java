@@ -4,6 +4,8 @@ import java.util.Comparator;
 
 public class LongStatistics <E> extends Statistics<E, Long>{
 
+    private final Column<E, Long, ?> column = new LongColumn<>(this.buffer, (value) -> value, 0L);
+
     protected LongStatistics(Generator<E> generator) {
         super(generator);
     }
@@ -12,6 +14,10 @@ public class LongStatistics <E> extends Statistics<E, Long>{
         super(generator, concurrent);
     }
 
+    protected LongStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected LongStatistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -74,4 +80,9 @@ public class LongStatistics <E> extends Statistics<E, Long>{
     public Long power(Long a, Long b) {
         return (long) Math.pow(a, b);
     }
+
+    @Override
+    Column<E, Long, ?> column() {
+        return this.column;
+    }
 }
@@ -0,0 +1,75 @@
+package pers.eloyhere.semantic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Counts line feeds ahead of a byte position so that a split of a file can number its lines without reading the
+ * whole prefix. The per-block counts are built once, on the first split that does not start at zero.
+ */
+final class Newlines {
+
+    private static final int block = 1 << 20;
+
+    private final Path path;
+
+    private final long size;
+
+    private volatile long[] prefix;
+
+    Newlines(Path path, long size) {
+        this.path = path;
+        this.size = size;
+    }
+
+    long before(long position) throws IOException {
+        if(position <= 0){
+            return 0L;
+        }
+        try(FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)){
+            byte[] chunk = new byte[block];
+            int index = (int) (position / block);
+            return this.prefix(channel, chunk)[index] + count(channel, chunk, (long) index * block, position);
+        }
+    }
+
+    private long[] prefix(FileChannel channel, byte[] chunk) throws IOException {
+        long[] prefix = this.prefix;
+        if(Objects.isNull(prefix)){
+            synchronized(this){
+                prefix = this.prefix;
+                if(Objects.isNull(prefix)){
+                    prefix = new long[(int) ((this.size + block - 1) / block) + 1];
+                    for(int index = 1; index < prefix.length; index++){
+                        prefix[index] = prefix[index - 1] + count(channel, chunk, (long) (index - 1) * block, Math.min((long) index * block, this.size));
+                    }
+                    this.prefix = prefix;
+                }
+            }
+        }
+        return prefix;
+    }
+
+    private static long count(FileChannel channel, byte[] chunk, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        long count = 0L;
+        for(long position = from; position < to; ){
+            buffer.clear().limit((int) Math.min(chunk.length, to - position));
+            int read = channel.read(buffer, position);
+            if(read < 0){
+                break;
+            }
+            for(int cursor = 0; cursor < read; cursor++){
+                if(chunk[cursor] == '\n'){
+                    count++;
+                }
+            }
+            position += read;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,218 @@
+package pers.eloyhere.semantic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sun.misc.Unsafe;
+
+/**
+ * Stores encoded elements in direct byte buffer pages. {@link #close()} returns the pages to the operating
+ * system through {@code sun.misc.Unsafe.invokeCleaner}, so this class needs the {@code jdk.unsupported}
+ * module, which is resolved by default on the class path; modular callers must require it.
+ */
+public class OffHeapCollectable<E> extends Collectable<E> implements AutoCloseable {
+
+    private static final int pageSize = 1 << 20;
+
+    private static final Unsafe unsafe = unsafe();
+
+    private final Codec<E> codec;
+
+    private final int width;
+
+    private final int stride;
+
+    private final List<ByteBuffer> pages = new ArrayList<>();
+
+    private final long[] addresses;
+
+    private final long count;
+
+    private final AtomicInteger leases = new AtomicInteger(0);
+
+    private volatile boolean closing = false;
+
+    protected OffHeapCollectable(Generator<E> generator, final Codec<E> codec) {
+        this(generator, codec, 1L, null);
+    }
+
+    protected OffHeapCollectable(Generator<E> generator, final Codec<E> codec, long concurrent) {
+        this(generator, codec, concurrent, null);
+    }
+
+    protected OffHeapCollectable(Generator<E> generator, final Codec<E> codec, long concurrent, ExecutionContext context) {
+        super(concurrent, context);
+        Objects.requireNonNull(codec, "Codec could not be null.");
+        this.codec = codec;
+        this.width = codec.width();
+        this.stride = this.width > 0 ? Math.max(1, pageSize / this.width) : 0;
+        Scratch scratch = new Scratch();
+        DataOutputStream output = new DataOutputStream(scratch);
+        long[][] indices = {new long[1024]};
+        long[][] addresses = {new long[1024]};
+        boolean[] ascending = {true};
+        int[] size = {0};
+        try{
+            generator.accept((element, index) -> {
+                scratch.reset();
+                try{
+                    this.codec.encode(element, output);
+                }catch (IOException exception){
+                    throw new RuntimeException(exception);
+                }
+                if(size[0] == indices[0].length){
+                    indices[0] = Arrays.copyOf(indices[0], size[0] << 1);
+                    addresses[0] = Arrays.copyOf(addresses[0], size[0] << 1);
+                }
+                if(size[0] > 0 && indices[0][size[0] - 1] > index){
+                    ascending[0] = false;
+                }
+                indices[0][size[0]] = index;
+                addresses[0][size[0]] = this.append(scratch);
+                size[0]++;
+            }, (element, index) -> false);
+        }catch (RuntimeException exception){
+            this.free();
+            throw exception;
+        }
+        this.count = size[0];
+        if(ascending[0] && this.width > 0){
+            this.addresses = null;
+        }else{
+            this.addresses = ascending[0] ? Arrays.copyOf(addresses[0], size[0]) : Kernels.permute(addresses[0], Kernels.order(indices[0], size[0]));
+        }
+    }
+
+    private long append(Scratch scratch) {
+        int length = scratch.size();
+        if(this.width > 0 && length != this.width){
+            throw new IllegalStateException("Codec wrote " + length + " bytes, expected " + this.width + ".");
+        }
+        int record = this.width > 0 ? length : length + Integer.BYTES;
+        ByteBuffer page = this.pages.isEmpty() ? null : this.pages.get(this.pages.size() - 1);
+        if(Objects.isNull(page) || page.remaining() < record){
+            page = ByteBuffer.allocateDirect(this.width > 0 ? this.stride * this.width : Math.max(pageSize, record));
+            this.pages.add(page);
+        }
+        long address = ((long) (this.pages.size() - 1) << 32) | page.position();
+        if(this.width <= 0){
+            page.putInt(length);
+        }
+        page.put(scratch.buffer(), 0, length);
+        return address;
+    }
+
+    @Override
+    public long count() {
+        return this.count;
+    }
+
+    @Override
+    public Generator<E> source() {
+        return SplittableGenerator.useSplitter(this.count, (start, end) -> (sink) -> {
+            this.acquire();
+            try{
+                this.generate(start, end, sink);
+            }finally{
+                this.relinquish();
+            }
+        });
+    }
+
+    private void generate(long start, long end, IndexedSink<E> sink) {
+        BufferInput input = null;
+        for(long index = start; index < end; index++){
+            ByteBuffer page;
+            int offset;
+            int limit;
+            if(Objects.isNull(this.addresses)){
+                page = this.pages.get((int) (index / this.stride));
+                offset = (int) (index % this.stride) * this.width;
+                limit = offset + this.width;
+            }else{
+                long address = this.addresses[(int) index];
+                page = this.pages.get((int) (address >>> 32));
+                offset = (int) address;
+                if(this.width > 0){
+                    limit = offset + this.width;
+                }else{
+                    limit = offset + Integer.BYTES + page.getInt(offset);
+                    offset += Integer.BYTES;
+                }
+            }
+            if(Objects.isNull(input)){
+                input = new BufferInput(page);
+            }
+            input.reset(page, offset, limit);
+            E element;
+            try{
+                element = this.codec.decode(input);
+            }catch (IOException exception){
+                throw new RuntimeException(exception);
+            }
+            if(sink.test(element, index)){
+                break;
+            }
+            sink.accept(element, index);
+        }
+    }
+
+    private void acquire() {
+        while(true){
+            int leases = this.leases.get();
+            if(leases < 0 || this.closing){
+                throw new IllegalStateException("Collectable has been closed.");
+            }
+            if(this.leases.compareAndSet(leases, leases + 1)){
+                return;
+            }
+        }
+    }
+
+    private void relinquish() {
+        this.leases.decrementAndGet();
+        if(this.closing && this.leases.compareAndSet(0, -1)){
+            this.free();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closing = true;
+        if(this.leases.compareAndSet(0, -1)){
+            this.free();
+        }
+    }
+
+    private void free() {
+        for(ByteBuffer page : this.pages){
+            unsafe.invokeCleaner(page);
+        }
+        this.pages.clear();
+    }
+
+    private static Unsafe unsafe() {
+        try{
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        }catch (ReflectiveOperationException exception){
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static final class Scratch extends ByteArrayOutputStream {
+
+        private byte[] buffer() {
+            return this.buf;
+        }
+    }
+}
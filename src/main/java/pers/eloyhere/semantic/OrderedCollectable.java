@@ -1,75 +1,190 @@
 package pers.eloyhere.semantic;
 
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Objects;
 
+/**
+ * Elements held in index order. A later element replaces an earlier one with the same index, and when any index
+ * is negative every index is taken modulo the element count, again with later elements winning a collision. With
+ * a comparator, elements that compare equal collapse into one entry that keeps the first index and the last
+ * element, and each entry is indexed by its position in index order.
+ */
 public class OrderedCollectable<E> extends Collectable<E>{
 
-    protected final TreeMap<Long, E> buffer;
+    protected final E[] buffer;
+
+    private final long[] keys;
 
     protected OrderedCollectable(Generator<E> generator) {
-        super(1L);
-        this.buffer = new TreeMap<>();
-        final TreeMap<Long, E> temporary = new TreeMap<>();
-        generator.accept((element, index) -> {
-            temporary.put(index, element);
-        }, (element, index) -> false);
-        temporary.forEach((index, element) -> {
-            buffer.put(((index % temporary.size()) + temporary.size()) % temporary.size(), element);
-        });
+        this(generator, 1L, null);
     }
 
     protected OrderedCollectable(Generator<E> generator, long concurrent) {
-        super(concurrent);
-        this.buffer = new TreeMap<>();
-        final TreeMap<Long, E> temporary = new TreeMap<>();
-        generator.accept((element, index) -> {
-            temporary.put(index, element);
-        }, (element, index) -> false);
-        temporary.forEach((index, element) -> {
-            buffer.put(((index % temporary.size()) + temporary.size()) % temporary.size(), element);
-        });
+        this(generator, concurrent, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected OrderedCollectable(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(concurrent, context);
+        Buffer buffer = materialize(generator, this.concurrent, this.context);
+        this.buffer = (E[]) Arrays.copyOf(buffer.elements, buffer.size);
+        this.keys = null;
     }
 
     protected OrderedCollectable(Generator<E> generator, final Comparator<E> comparator) {
-        super(1L);
-        final TreeMap<Long, E> temporary = new TreeMap<>();
-        this.buffer = new TreeMap<>((a, b) -> comparator.compare(temporary.get(a), temporary.get(b)));
-        generator.accept((element, index) -> {
-            temporary.put(index, element);
-        }, (element, index) -> false);
-        temporary.forEach((index, element) -> {
-            buffer.put(((index % temporary.size()) + temporary.size()) % temporary.size(), element);
-        });
+        this(generator, comparator, 1L, null);
     }
 
     protected OrderedCollectable(Generator<E> generator, final Comparator<E> comparator, final long concurrent) {
-        super(concurrent);
-        final TreeMap<Long, E> temporary = new TreeMap<>();
-        this.buffer = new TreeMap<>((a, b) -> comparator.compare(temporary.get(a), temporary.get(b)));
-        generator.accept((element, index) -> {
-            temporary.put(index, element);
-        }, (element, index) -> false);
-        temporary.forEach((index, element) -> {
-            buffer.put(((index % temporary.size()) + temporary.size()) % temporary.size(), element);
-        });
+        this(generator, comparator, concurrent, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected OrderedCollectable(Generator<E> generator, final Comparator<E> comparator, final long concurrent, ExecutionContext context) {
+        super(concurrent, context);
+        Buffer buffer = materialize(generator, this.concurrent, this.context);
+        buffer.sort((Comparator<Object>) comparator, this.concurrent, this.context);
+        this.buffer = (E[]) Arrays.copyOf(buffer.elements, buffer.size);
+        this.keys = buffer.keys();
+    }
+
+    private static <E> Buffer materialize(Generator<E> generator, long concurrent, ExecutionContext context) {
+        Collector<E, Buffer, Buffer> collector = Collector.useMutable(
+                Buffer::new,
+                (buffer, element, index) -> buffer.add(index, element),
+                Buffer::addAll,
+                (buffer) -> buffer
+        );
+        Buffer buffer;
+        if(generator instanceof SplittableGenerator<E>){
+            buffer = collector.collect(generator, concurrent, context);
+        }else{
+            buffer = collector.collect(generator);
+        }
+        buffer.sort();
+        buffer.normalize();
+        return buffer;
     }
 
     @Override
     public long count() {
-        return this.buffer.size();
+        return this.buffer.length;
     }
 
     @Override
     public Generator<E> source() {
-        return (accept, interrupt)->{
-            for(Map.Entry<Long, E> entry : this.buffer.entrySet()){
-                if(interrupt.test(entry.getValue(), entry.getKey())){
+        return SplittableGenerator.useSplitter(this.buffer.length, (start, end) -> (sink) -> {
+            for(long position = start; position < end; position++){
+                E element = this.buffer[(int) position];
+                long index = Objects.isNull(this.keys) ? position : this.keys[(int) position];
+                if(sink.test(element, index)){
                     break;
                 }
-                accept.accept(entry.getValue(), entry.getKey());
+                sink.accept(element, index);
+            }
+        });
+    }
+
+    private static final class Buffer {
+
+        private long[] indices = new long[16];
+
+        private Object[] elements = new Object[16];
+
+        private int size = 0;
+
+        private boolean ascending = true;
+
+        private void add(long index, Object element) {
+            if(this.size == this.elements.length){
+                this.indices = Arrays.copyOf(this.indices, this.size << 1);
+                this.elements = Arrays.copyOf(this.elements, this.size << 1);
+            }
+            if(this.size > 0 && this.indices[this.size - 1] > index){
+                this.ascending = false;
+            }
+            this.indices[this.size] = index;
+            this.elements[this.size] = element;
+            this.size++;
+        }
+
+        private void addAll(Buffer other) {
+            for(int position = 0; position < other.size; position++){
+                this.add(other.indices[position], other.elements[position]);
+            }
+        }
+
+        private void sort() {
+            if(!this.ascending){
+                int[] order = Kernels.order(this.indices, this.size);
+                this.indices = Kernels.permute(this.indices, order);
+                this.elements = Kernels.permute(this.elements, order);
+                this.ascending = true;
+            }
+            int kept = 0;
+            for(int position = 0; position < this.size; position++){
+                if(kept > 0 && this.indices[kept - 1] == this.indices[position]){
+                    kept--;
+                }
+                this.indices[kept] = this.indices[position];
+                this.elements[kept] = this.elements[position];
+                kept++;
+            }
+            Arrays.fill(this.elements, kept, this.size, null);
+            this.size = kept;
+        }
+
+        private void normalize() {
+            if(this.size == 0 || this.indices[0] >= 0){
+                return;
+            }
+            long size = this.size;
+            for(int position = 0; position < this.size; position++){
+                this.indices[position] = ((this.indices[position] % size) + size) % size;
+            }
+            this.ascending = false;
+            this.sort();
+        }
+
+        private void sort(Comparator<Object> comparator, long concurrent, ExecutionContext context) {
+            Integer[] order = new Integer[this.size];
+            for(int position = 0; position < order.length; position++){
+                order[position] = position;
+            }
+            Object[] elements = this.elements;
+            Comparator<Integer> by = (a, b) -> comparator.compare(elements[a], elements[b]);
+            if(concurrent < 2){
+                Arrays.sort(order, by);
+            }else{
+                context.run(() -> Arrays.parallelSort(order, by));
+            }
+            long[] indices = new long[order.length];
+            Object[] sorted = new Object[order.length];
+            Object first = null;
+            int kept = 0;
+            for(int position : order){
+                if(kept > 0 && comparator.compare(first, elements[position]) == 0){
+                    sorted[kept - 1] = elements[position];
+                    continue;
+                }
+                first = elements[position];
+                indices[kept] = position;
+                sorted[kept] = first;
+                kept++;
+            }
+            this.indices = indices;
+            this.elements = sorted;
+            this.size = kept;
+        }
+
+        private long[] keys() {
+            for(int position = 0; position < this.size; position++){
+                if(this.indices[position] != position){
+                    return Arrays.copyOf(this.indices, this.size);
+                }
             }
-        };
+            return null;
+        }
     }
 }
@@ -0,0 +1,100 @@
+package pers.eloyhere.semantic;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.*;
+
+final class Pipeline<G> {
+
+    final G generator;
+
+    final long concurrent;
+
+    final ExecutionContext context;
+
+    private final long size;
+
+    private final BiFunction<Long, Long, G> splitter;
+
+    private Pipeline(G generator, long size, BiFunction<Long, Long, G> splitter, long concurrent, ExecutionContext context) {
+        this.generator = generator;
+        this.size = size;
+        this.splitter = splitter;
+        this.concurrent = concurrent;
+        this.context = Objects.isNull(context) ? ExecutionContext.useDefault() : context;
+    }
+
+    static <G> Pipeline<G> useGenerator(final G generator) {
+        Objects.requireNonNull(generator, "Generator could not be null.");
+        return new Pipeline<>(generator, -1L, null, 1L, null);
+    }
+
+    static <G> Pipeline<G> useSplitter(final long size, final BiFunction<Long, Long, G> splitter) {
+        Objects.requireNonNull(splitter, "Splitter could not be null.");
+        if(size < 0){
+            throw new IllegalArgumentException("Size could not less than 0.");
+        }
+        return new Pipeline<>(splitter.apply(0L, size), size, splitter, 1L, null);
+    }
+
+    <H> Pipeline<H> derive(final Function<G, H> operator) {
+        if(Objects.isNull(this.splitter)){
+            return new Pipeline<>(operator.apply(this.generator), -1L, null, this.concurrent, this.context);
+        }
+        BiFunction<Long, Long, G> splitter = this.splitter;
+        return new Pipeline<>(operator.apply(this.generator), this.size, (start, end) -> operator.apply(splitter.apply(start, end)), this.concurrent, this.context);
+    }
+
+    <H> Pipeline<H> chain(final H generator) {
+        return new Pipeline<>(generator, -1L, null, this.concurrent, this.context);
+    }
+
+    <T> IndexedGenerator<T> boxed(final Function<G, IndexedGenerator<T>> operator) {
+        if(Objects.isNull(this.splitter)){
+            return operator.apply(this.generator);
+        }
+        BiFunction<Long, Long, G> splitter = this.splitter;
+        return SplittableGenerator.useSplitter(this.size, (start, end) -> operator.apply(splitter.apply(start, end)));
+    }
+
+    Pipeline<G> parallel(final long concurrent, final ExecutionContext context) {
+        return new Pipeline<>(this.generator, this.size, this.splitter, Math.max(concurrent, 1L), context);
+    }
+
+    <A> A collect(final Supplier<A> identity, final BiConsumer<A, G> drain, final BiConsumer<A, A> combiner) {
+        if(Objects.isNull(this.splitter) || this.concurrent < 2){
+            A a = identity.get();
+            drain.accept(a, this.generator);
+            return a;
+        }
+        BiFunction<Long, Long, G> splitter = this.splitter;
+        Collector<G, A, A> collector = Collector.useMutable(identity, (a, split, index) -> drain.accept(a, split), combiner, (a) -> a);
+        return collector.collect(SplittableGenerator.useSplitter(this.size, (start, end) -> (sink) -> {
+            G split = splitter.apply(start, end);
+            if(!sink.test(split, start)){
+                sink.accept(split, start);
+            }
+        }), this.concurrent, this.context);
+    }
+
+    <A> A toArray(final Function<G, A> drain, final IntFunction<A> allocate) {
+        List<A> parts = this.collect(ArrayList::new, (list, generator) -> list.add(drain.apply(generator)), List::addAll);
+        if(parts.size() == 1){
+            return parts.get(0);
+        }
+        long length = 0L;
+        for(A part : parts){
+            length += Array.getLength(part);
+        }
+        A result = allocate.apply(Math.toIntExact(length));
+        int offset = 0;
+        for(A part : parts){
+            int size = Array.getLength(part);
+            System.arraycopy(part, 0, result, offset, size);
+            offset += size;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,5 @@
+package pers.eloyhere.semantic;
+
+public interface PrimitiveIndexedAccumulator <A, E> {
+    public A apply(A a, E e, long index);
+}
@@ -0,0 +1,5 @@
+package pers.eloyhere.semantic;
+
+public interface PrimitiveIndexedInterrupt<A, E> {
+    public boolean test(A a, E e, long index);
+}
@@ -0,0 +1,39 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+
+abstract class PrimitiveSemantic<G, S extends PrimitiveSemantic<G, S>> {
+
+    protected final G generator;
+
+    final Pipeline<G> pipeline;
+
+    PrimitiveSemantic(Pipeline<G> pipeline) {
+        this.generator = pipeline.generator;
+        this.pipeline = pipeline;
+    }
+
+    abstract S wrap(Pipeline<G> pipeline);
+
+    public S parallel() {
+        return this.wrap(this.pipeline.parallel(this.pipeline.concurrent + 1L, this.pipeline.context));
+    }
+
+    public S parallel(long concurrent) {
+        return this.wrap(this.pipeline.parallel(concurrent, this.pipeline.context));
+    }
+
+    public S parallel(final ExecutionContext context) {
+        Objects.requireNonNull(context, "Context could not be null.");
+        return this.wrap(this.pipeline.parallel(context.parallelism(), context));
+    }
+
+    public S parallel(final ExecutionContext context, long concurrent) {
+        Objects.requireNonNull(context, "Context could not be null.");
+        return this.wrap(this.pipeline.parallel(concurrent, context));
+    }
+
+    public G source() {
+        return this.generator;
+    }
+}
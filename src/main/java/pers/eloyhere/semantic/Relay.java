@@ -0,0 +1,81 @@
+package pers.eloyhere.semantic;
+
+final class Relay {
+
+    private final long skip;
+
+    private final long limit;
+
+    private long count = 0L;
+
+    private Relay(long skip, long limit) {
+        this.skip = skip;
+        this.limit = limit;
+    }
+
+    static Relay useLimit(long n) {
+        if(n < 0){
+            throw new IllegalArgumentException("Count could not less than 0.");
+        }
+        return new Relay(0L, n);
+    }
+
+    static Relay useSkip(long n) {
+        if(n < 0){
+            throw new IllegalArgumentException("Count could not less than 0.");
+        }
+        return new Relay(n, Long.MAX_VALUE);
+    }
+
+    Relay copy() {
+        return new Relay(this.skip, this.limit);
+    }
+
+    long position() {
+        return this.count - this.skip;
+    }
+
+    boolean admit() {
+        return this.count++ >= this.skip;
+    }
+
+    boolean halted() {
+        return this.position() >= this.limit;
+    }
+
+    boolean open() {
+        return this.position() >= 0L;
+    }
+
+    static boolean forwardLong(LongGenerator.Consumer accept, LongGenerator.Interrupt interrupt, long element, long index) {
+        if(interrupt.test(element, index)){
+            return true;
+        }
+        accept.accept(element, index);
+        return false;
+    }
+
+    static boolean forwardInt(IntGenerator.Consumer accept, IntGenerator.Interrupt interrupt, int element, long index) {
+        if(interrupt.test(element, index)){
+            return true;
+        }
+        accept.accept(element, index);
+        return false;
+    }
+
+    static boolean forwardDouble(DoubleGenerator.Consumer accept, DoubleGenerator.Interrupt interrupt, double element, long index) {
+        if(interrupt.test(element, index)){
+            return true;
+        }
+        accept.accept(element, index);
+        return false;
+    }
+
+    static <T> boolean forward(IndexedSink<T> sink, T element, long index) {
+        if(sink.test(element, index)){
+            return true;
+        }
+        sink.accept(element, index);
+        return false;
+    }
+}
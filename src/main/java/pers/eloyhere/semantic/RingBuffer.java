@@ -0,0 +1,148 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+final class RingBuffer<E> {
+
+    private static final int spins = 64;
+
+    private final Object[] elements;
+
+    private final long[] indices;
+
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(0L);
+
+    private final AtomicLong tail = new AtomicLong(0L);
+
+    private volatile boolean closed = false;
+
+    private volatile boolean cancelled = false;
+
+    private volatile Throwable failure = null;
+
+    private volatile Thread producer = null;
+
+    private volatile Thread consumer = null;
+
+    private long cachedHead = 0L;
+
+    private long cachedTail = 0L;
+
+    private E element;
+
+    private long index;
+
+    RingBuffer(int capacity) {
+        int size = 1;
+        while(size < capacity && size < 1 << 30){
+            size <<= 1;
+        }
+        this.elements = new Object[size];
+        this.indices = new long[size];
+        this.mask = size - 1;
+    }
+
+    boolean put(E element, long index) {
+        long tail = this.tail.get();
+        int spin = 0;
+        while(tail - this.cachedHead > this.mask){
+            this.cachedHead = this.head.get();
+            if(tail - this.cachedHead <= this.mask){
+                break;
+            }
+            if(this.cancelled){
+                return false;
+            }
+            if(spin++ < spins){
+                Thread.onSpinWait();
+            }else{
+                this.producer = Thread.currentThread();
+                if(tail - this.head.get() > this.mask && !this.cancelled){
+                    LockSupport.parkNanos(this, 100_000L);
+                }
+                this.producer = null;
+            }
+        }
+        int slot = (int) tail & this.mask;
+        this.elements[slot] = element;
+        this.indices[slot] = index;
+        this.tail.set(tail + 1L);
+        wake(this.consumer);
+        return !this.cancelled;
+    }
+
+    @SuppressWarnings("unchecked")
+    boolean take() {
+        long head = this.head.get();
+        int spin = 0;
+        while(head == this.cachedTail){
+            this.cachedTail = this.tail.get();
+            if(head != this.cachedTail){
+                break;
+            }
+            if(this.closed){
+                this.cachedTail = this.tail.get();
+                if(head == this.cachedTail){
+                    return false;
+                }
+                break;
+            }
+            if(spin++ < spins){
+                Thread.onSpinWait();
+            }else{
+                this.consumer = Thread.currentThread();
+                if(head == this.tail.get() && !this.closed){
+                    LockSupport.parkNanos(this, 100_000L);
+                }
+                this.consumer = null;
+            }
+        }
+        int slot = (int) head & this.mask;
+        this.element = (E) this.elements[slot];
+        this.index = this.indices[slot];
+        this.elements[slot] = null;
+        this.head.set(head + 1L);
+        wake(this.producer);
+        return true;
+    }
+
+    E element() {
+        return this.element;
+    }
+
+    long index() {
+        return this.index;
+    }
+
+    boolean cancelled() {
+        return this.cancelled;
+    }
+
+    void cancel() {
+        this.cancelled = true;
+        wake(this.producer);
+    }
+
+    void fail(Throwable failure) {
+        this.failure = failure;
+    }
+
+    Throwable failure() {
+        return this.failure;
+    }
+
+    void close() {
+        this.closed = true;
+        wake(this.consumer);
+    }
+
+    private static void wake(Thread thread) {
+        if(Objects.nonNull(thread)){
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package pers.eloyhere.semantic;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.concurrent.atomic.*;
 
 public class Semantic<E> {
@@ -14,30 +28,113 @@ public class Semantic<E> {
 
     protected final Long concurrent;
 
+    protected final ExecutionContext context;
+
     public Semantic(Generator<E> generator) {
         this.generator = generator;
         this.concurrent = 1L;
+        this.context = ExecutionContext.useDefault();
     }
 
     public Semantic(Generator<E> generator, Long concurrent) {
         this.generator = generator;
         this.concurrent = concurrent;
+        this.context = ExecutionContext.useDefault();
+    }
+
+    public Semantic(Generator<E> generator, Long concurrent, ExecutionContext context) {
+        this.generator = generator;
+        this.concurrent = concurrent;
+        this.context = Objects.isNull(context) ? ExecutionContext.useDefault() : context;
+    }
+
+    public Semantic<E> async(final int bufferSize){
+        if(bufferSize < 1){
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        return new Semantic<>((IndexedGenerator<E>) (sink) -> {
+            RingBuffer<E> ring = new RingBuffer<>(bufferSize);
+            Thread producer = new Thread(() -> {
+                try{
+                    this.generator.accept(ring::put, (element, index) -> ring.cancelled());
+                }catch (Throwable throwable){
+                    ring.fail(throwable);
+                }finally{
+                    ring.close();
+                }
+            }, "semantic-async");
+            producer.setDaemon(true);
+            producer.start();
+            boolean drained = false;
+            try{
+                while(!(drained = !ring.take())){
+                    if(sink.test(ring.element(), ring.index())){
+                        break;
+                    }
+                    sink.accept(ring.element(), ring.index());
+                }
+            }finally{
+                ring.cancel();
+            }
+            if(drained && Objects.nonNull(ring.failure())){
+                throw new RuntimeException(ring.failure());
+            }
+        }, this.concurrent, this.context);
+    }
+
+    /**
+     * Groups consecutive elements into lists of at most {@code size}, indexed by their first element.
+     * On a splittable source each split is batched on its own, so when an upstream stage such as
+     * {@code filter} drops elements, the last batch of every split may be partial.
+     */
+    public Semantic<List<E>> batch(final int size){
+        if(size < 1){
+            throw new IllegalArgumentException("Size must be positive.");
+        }
+        if(this.generator instanceof SplittableGenerator<E> splittable){
+            long count = (splittable.size() + size - 1L) / size;
+            return new Semantic<>(SplittableGenerator.useSplitter(count, (from, to) -> batch(splittable.split(from * size, Math.min(to * size, splittable.size())), size)), this.concurrent, this.context);
+        }
+        return new Semantic<>(batch(IndexedGenerator.useGenerator(this.generator), size), this.concurrent, this.context);
+    }
+
+    private static <E> IndexedGenerator<List<E>> batch(final IndexedGenerator<E> generator, final int size){
+        return (sink) -> {
+            final AtomicReference<List<E>> chunk = new AtomicReference<>(new ArrayList<>(size));
+            final long[] first = {0L};
+            final boolean[] stop = {false};
+            generator.generate(IndexedSink.useSink((element, index) -> {
+                List<E> current = chunk.get();
+                if(current.isEmpty()){
+                    first[0] = index;
+                }
+                current.add(element);
+                if(current.size() == size){
+                    chunk.set(new ArrayList<>(size));
+                    stop[0] = sink.test(current, first[0]);
+                    if(!stop[0]){
+                        sink.accept(current, first[0]);
+                    }
+                }
+            }, (element, index) -> stop[0]));
+            List<E> rest = chunk.get();
+            if(!stop[0] && !rest.isEmpty() && !sink.test(rest, first[0])){
+                sink.accept(rest, first[0]);
+            }
+        };
     }
 
     public Semantic<E> concatenate(final Semantic<E> other){
         Objects.requireNonNull(other, "Other could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
-            AtomicLong count = new AtomicLong(0);
-            AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept(accept, (element, index) -> {
-                stop.set(stop.get() || interrupt.test(element, count.getAndIncrement()));
-                return stop.get();
-            });
-            other.source().accept(accept, (element, index) -> {
-                stop.set(stop.get() || interrupt.test(element, count.getAndIncrement()));
-                return stop.get();
-            });
-        }, this.concurrent);
+        if(this.generator instanceof SplittableGenerator<E> first && other.source() instanceof SplittableGenerator<E> second){
+            final long size = first.size();
+            return new Semantic<>(SplittableGenerator.useSplitter(size + second.size(), (start, end) -> concatenate(
+                    first.split(Math.min(start, size), Math.min(end, size)),
+                    second.split(Math.max(start - size, 0L), Math.max(end - size, 0L)),
+                    start
+            )), this.concurrent, this.context);
+        }
+        return new Semantic<>(concatenate(IndexedGenerator.useGenerator(this.generator), IndexedGenerator.useGenerator(other.source()), 0L), this.concurrent, this.context);
     }
 
     public Semantic<E> concatenate(final Iterable<E> other){
@@ -55,11 +152,29 @@ public class Semantic<E> {
                 }
                 accept.accept(element, count.getAndIncrement());
             }
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> concatenate(final E[] other){
         Objects.requireNonNull(other, "Other could not be null.");
+        if(this.generator instanceof SplittableGenerator<E> first){
+            final long size = first.size();
+            return new Semantic<>(SplittableGenerator.useSplitter(size + other.length, (start, end) -> (sink) -> {
+                AtomicLong count = new AtomicLong(start);
+                AtomicBoolean stop = new AtomicBoolean(false);
+                first.split(Math.min(start, size), Math.min(end, size)).generate(IndexedSink.useSink(sink::accept, (element, index) -> {
+                    stop.set(stop.get() || sink.test(element, count.getAndIncrement()));
+                    return stop.get();
+                }));
+                for(long position = Math.max(start - size, 0L); position < end - size && !stop.get(); position++){
+                    E element = other[(int) position];
+                    if(sink.test(element, count.get())){
+                        break;
+                    }
+                    sink.accept(element, count.getAndIncrement());
+                }
+            }), this.concurrent, this.context);
+        }
         return new Semantic<>((accept, interrupt) -> {
             AtomicLong count = new AtomicLong(0);
             AtomicBoolean stop = new AtomicBoolean(false);
@@ -73,7 +188,28 @@ public class Semantic<E> {
                 }
                 accept.accept(element, count.getAndIncrement());
             }
-        }, this.concurrent);
+        }, this.concurrent, this.context);
+    }
+
+    private static <E> IndexedGenerator<E> concatenate(final IndexedGenerator<E> first, final IndexedGenerator<E> second, final long offset){
+        return (sink) -> {
+            long[] position = {offset, offset};
+            AtomicBoolean stop = new AtomicBoolean(false);
+            IndexedSink<E> chained = IndexedSink.useSink((element, index) -> sink.accept(element, position[0]), (element, index) -> {
+                position[0] = position[1]++;
+                stop.set(stop.get() || sink.test(element, position[0]));
+                return stop.get();
+            });
+            first.generate(chained);
+            second.generate(chained);
+        };
+    }
+
+    private <R> IndexedGenerator<R> derive(final Function<IndexedGenerator<E>, IndexedGenerator<R>> operator){
+        if(this.generator instanceof SplittableGenerator<E> splittable){
+            return SplittableGenerator.useSplitter(splittable.size(), (start, end) -> operator.apply(splittable.split(start, end)));
+        }
+        return operator.apply(IndexedGenerator.useGenerator(this.generator));
     }
 
     public Semantic<E> distinct() {
@@ -85,7 +221,7 @@ public class Semantic<E> {
                     accept.accept(element, (long) seen.size());
                 }
             }, interrupt);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> distinct(final Comparator<E> comparator) {
@@ -98,7 +234,7 @@ public class Semantic<E> {
                     accept.accept(element, (long) seen.size());
                 }
             }, interrupt);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> dropWhile(final Predicate<E> predicate) {
@@ -114,7 +250,7 @@ public class Semantic<E> {
                     accept.accept(element, count.getAndIncrement());
                 }
             }, interrupt);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> dropWhile(final BiPredicate<E, Long> predicate) {
@@ -130,41 +266,41 @@ public class Semantic<E> {
                     accept.accept(element, count.getAndIncrement());
                 }
             }, interrupt);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> filter(final Predicate<E> predicate) {
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
-            this.generator.accept((element, index) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
+            generator.generate(IndexedSink.useSink((element, index) -> {
                 if (predicate.test(element)) {
-                    accept.accept(element, index);
+                    sink.accept(element, index);
                 }
-            }, interrupt);
-        }, this.concurrent);
+            }, sink::test));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> filter(final BiPredicate<E, Long> predicate) {
         Objects.requireNonNull(predicate, "Predicate could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
-            this.generator.accept((element, index) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
+            generator.generate(IndexedSink.useSink((element, index) -> {
                 if (predicate.test(element, index)) {
-                    accept.accept(element, index);
+                    sink.accept(element, index);
                 }
-            }, interrupt);
-        }, this.concurrent);
+            }, sink::test));
+        }), this.concurrent, this.context);
     }
 
     public <R> Semantic<R> map(final Function<E, R> mapper) {
         Objects.requireNonNull(mapper, "Mapper could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
             AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept((element, index) -> {
+            generator.generate(IndexedSink.useSink((element, index) -> {
                 R mapped = mapper.apply(element);
-                stop.set(stop.get() || interrupt.test(mapped, index));
-                accept.accept(mapped, index);
-            }, (element, index) -> stop.get());
-        }, this.concurrent);
+                stop.set(stop.get() || sink.test(mapped, index));
+                sink.accept(mapped, index);
+            }, (element, index) -> stop.get()));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> flat(final Function<E, Semantic<E>> mapper){
@@ -179,7 +315,7 @@ public class Semantic<E> {
                     accept.accept(element1, count.getAndIncrement());
                 }, (element1, index1) -> stop.get());
             }, (element, index) -> stop.get());
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> flat(final BiFunction<E, Long, Semantic<E>> mapper){
@@ -194,7 +330,7 @@ public class Semantic<E> {
                     accept.accept(element1, count.getAndIncrement());
                 }, (element1, index1) -> stop.get());
             }, (element, index) -> stop.get());
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public <R> Semantic<R> flatMap(final Function<E, Semantic<R>> mapper){
@@ -209,7 +345,7 @@ public class Semantic<E> {
                     accept.accept(element1, count.getAndIncrement());
                 }, (element1, index1) -> stop.get());
             }, (element, index) -> stop.get());
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public <R> Semantic<R> flatMap(final BiFunction<E, Long, Semantic<R>> mapper){
@@ -224,7 +360,7 @@ public class Semantic<E> {
                     accept.accept(element1, count.getAndIncrement());
                 }, (element1, index1) -> stop.get());
             }, (element, index) -> stop.get());
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> limit(final long n){
@@ -238,74 +374,118 @@ public class Semantic<E> {
                     accept.accept(element, count.getAndIncrement());
                 }
             }, (element, index) -> count.get() >= n);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public <R> Semantic<R> map(final BiFunction<E, Long, R> mapper) {
         Objects.requireNonNull(mapper, "Mapper could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
             AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept((element, index) -> {
+            generator.generate(IndexedSink.useSink((element, index) -> {
                 R mapped = mapper.apply(element, index);
-                stop.set(stop.get() || interrupt.test(mapped, index));
-                accept.accept(mapped, index);
-            }, (element, index) -> stop.get());
-        }, this.concurrent);
+                stop.set(stop.get() || sink.test(mapped, index));
+                sink.accept(mapped, index);
+            }, (element, index) -> stop.get()));
+        }), this.concurrent, this.context);
+    }
+
+    public LongSemantic mapToLong(final ToLongFunction<E> mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new LongSemantic(this.pipeline((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardLong(accept, interrupt, mapper.applyAsLong(element), index))));
+    }
+
+    public IntSemantic mapToInt(final ToIntFunction<E> mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new IntSemantic(this.pipeline((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardInt(accept, interrupt, mapper.applyAsInt(element), index))));
+    }
+
+    public DoubleSemantic mapToDouble(final ToDoubleFunction<E> mapper) {
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new DoubleSemantic(this.pipeline((generator) -> (accept, interrupt) -> drive(generator, (element, index) -> Relay.forwardDouble(accept, interrupt, mapper.applyAsDouble(element), index))));
+    }
+
+    private <G> Pipeline<G> pipeline(final Function<IndexedGenerator<E>, G> operator){
+        Pipeline<G> pipeline;
+        if(this.generator instanceof SplittableGenerator<E> splittable){
+            pipeline = Pipeline.useSplitter(splittable.size(), (start, end) -> operator.apply(splittable.split(start, end)));
+        }else{
+            pipeline = Pipeline.useGenerator(operator.apply(IndexedGenerator.useGenerator(this.generator)));
+        }
+        return pipeline.parallel(this.concurrent, this.context);
+    }
+
+    private static <E> void drive(final IndexedGenerator<E> generator, final IndexedSink.Interrupt<E> step) {
+        final boolean[] stop = {false};
+        generator.generate(IndexedSink.useSink((element, index) -> stop[0] = stop[0] || step.test(element, index), (element, index) -> stop[0]));
     }
 
     public Semantic<E> parallel(){
-        return new Semantic<>(this.generator, this.concurrent + 1L);
+        return new Semantic<>(this.generator, this.concurrent + 1L, this.context);
     }
 
     public Semantic<E> parallel(long concurrent){
-        return new Semantic<>(this.generator, Math.max(concurrent, 1L));
+        return new Semantic<>(this.generator, Math.max(concurrent, 1L), this.context);
+    }
+
+    public Semantic<E> parallel(final ForkJoinPool pool){
+        return this.parallel(ExecutionContext.useForkJoin(pool));
+    }
+
+    public Semantic<E> parallel(final ForkJoinPool pool, long concurrent){
+        return this.parallel(ExecutionContext.useForkJoin(pool), concurrent);
+    }
+
+    public Semantic<E> parallel(final ExecutionContext context){
+        Objects.requireNonNull(context, "Context could not be null.");
+        return new Semantic<>(this.generator, Math.max(context.parallelism(), 1L), context);
+    }
+
+    public Semantic<E> parallel(final ExecutionContext context, long concurrent){
+        Objects.requireNonNull(context, "Context could not be null.");
+        return new Semantic<>(this.generator, Math.max(concurrent, 1L), context);
     }
 
     public Semantic<E> peek(final Consumer<E> consumer) {
         Objects.requireNonNull(consumer, "Consumer could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
-            this.generator.accept((element, index) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
+            generator.generate(IndexedSink.useSink((element, index) -> {
                 consumer.accept(element);
-                accept.accept(element, index);
-            }, interrupt);
-        }, this.concurrent);
+                sink.accept(element, index);
+            }, sink::test));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> peek(final BiConsumer<E, Long> consumer) {
         Objects.requireNonNull(consumer, "Consumer could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
-            this.generator.accept((element, index) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
+            generator.generate(IndexedSink.useSink((element, index) -> {
                 consumer.accept(element, index);
-                accept.accept(element, index);
-            }, interrupt);
-        }, this.concurrent);
+                sink.accept(element, index);
+            }, sink::test));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> redirect(final BiFunction<E, Long, Long> redirector){
         Objects.requireNonNull(redirector, "Redirector could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
             AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept((element, index) -> {
-                Long redirected = redirector.apply(element, index);
-                stop.set(stop.get() || interrupt.test(element, redirected));
-                accept.accept(element, redirected);
-            }, (element, index) -> {
-                return stop.get();
-            });
-        }, this.concurrent);
+            generator.generate(IndexedSink.useSink((element, index) -> {
+                long redirected = redirector.apply(element, index);
+                stop.set(stop.get() || sink.test(element, redirected));
+                sink.accept(element, redirected);
+            }, (element, index) -> stop.get()));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> reverse(){
-        return new Semantic<>((accept, interrupt) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
             AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept((element, index) -> {
-                Long redirected = -index;
-                stop.set(stop.get() || interrupt.test(element, redirected));
-                accept.accept(element, redirected);
-            }, (element, index) -> {
-                return stop.get();
-            });
-        }, this.concurrent);
+            generator.generate(IndexedSink.useSink((element, index) -> {
+                long redirected = -index;
+                stop.set(stop.get() || sink.test(element, redirected));
+                sink.accept(element, redirected);
+            }, (element, index) -> stop.get()));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> shuffle(){
@@ -317,7 +497,51 @@ public class Semantic<E> {
                 stop.set(stop.get() || interrupt.test(element, redirected));
                 accept.accept(element, redirected);
             }, (element, index) -> stop.get());
-        }, this.concurrent);
+        }, this.concurrent, this.context);
+    }
+
+    public Semantic<Semantic<E>> slide(final long size, final long step){
+        if(size < 1 || size > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Size must be positive.");
+        }
+        if(step < 1){
+            throw new IllegalArgumentException("Step must be positive.");
+        }
+        return new Semantic<>((IndexedGenerator<Semantic<E>>) (sink) -> {
+            final Object[] ring = new Object[(int) size];
+            final long[] count = {0L};
+            final long[] start = {0L};
+            final long[] order = {0L};
+            AtomicBoolean stop = new AtomicBoolean(false);
+            IndexedGenerator.useGenerator(this.generator).generate(IndexedSink.useSink((element, index) -> {
+                ring[(int) (count[0] % size)] = element;
+                count[0]++;
+                if(start[0] + size == count[0]){
+                    Semantic<E> window = this.window(ring, start[0], count[0]);
+                    stop.set(stop.get() || sink.test(window, order[0]));
+                    if(!stop.get()){
+                        sink.accept(window, order[0]++);
+                    }
+                    start[0] += step;
+                }
+            }, (element, index) -> stop.get()));
+            for(; start[0] < count[0] && !stop.get(); start[0] += step){
+                Semantic<E> window = this.window(ring, start[0], count[0]);
+                if(sink.test(window, order[0])){
+                    break;
+                }
+                sink.accept(window, order[0]++);
+            }
+        }, this.concurrent, this.context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Semantic<E> window(final Object[] ring, final long start, final long end){
+        List<E> window = new ArrayList<>((int) (end - start));
+        for(long position = start; position < end; position++){
+            window.add((E) ring[(int) (position % ring.length)]);
+        }
+        return Semantic.useFrom(window);
     }
 
     public Semantic<E> skip(final long n){
@@ -332,7 +556,7 @@ public class Semantic<E> {
                 }
                 count.getAndIncrement();
             }, (element, index) -> count.get() >= n);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> sub(final long start, final long end){
@@ -349,39 +573,72 @@ public class Semantic<E> {
                 }
                 count.getAndIncrement();
             }, (element, index) -> count.get() >= maximum);
-        }, this.concurrent);
+        }, this.concurrent, this.context);
+    }
+
+    public Semantic<Semantic<E>> tumble(final long size){
+        return this.slide(size, size);
     }
 
     public Semantic<E> translate(final long translator){
-        return new Semantic<>((accept, interrupt) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
             AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept((element, index) -> {
-                Long redirected = index + translator;
-                stop.set(stop.get() || interrupt.test(element, redirected));
-                accept.accept(element, redirected);
-            }, (element, index) -> stop.get());
-        }, this.concurrent);
+            generator.generate(IndexedSink.useSink((element, index) -> {
+                long redirected = index + translator;
+                stop.set(stop.get() || sink.test(element, redirected));
+                sink.accept(element, redirected);
+            }, (element, index) -> stop.get()));
+        }), this.concurrent, this.context);
     }
 
     public Semantic<E> translate(final BiFunction<E, Long, Long> translator){
-        return new Semantic<>((accept, interrupt) -> {
+        return new Semantic<>(this.derive((generator) -> (sink) -> {
             AtomicBoolean stop = new AtomicBoolean(false);
-            this.generator.accept((element, index) -> {
-                Long redirected = translator.apply(element, index);
-                stop.set(stop.get() || interrupt.test(element, redirected));
-                accept.accept(element, redirected);
-            }, (element, index) -> stop.get());
-        }, this.concurrent);
+            generator.generate(IndexedSink.useSink((element, index) -> {
+                long redirected = translator.apply(element, index);
+                stop.set(stop.get() || sink.test(element, redirected));
+                sink.accept(element, redirected);
+            }, (element, index) -> stop.get()));
+        }), this.concurrent, this.context);
     }
 
     @SuppressWarnings("unchecked")
     public OrderedCollectable<E> sorted(){
-        return new OrderedCollectable<>(this.source(), (a, b) -> ((Comparable<E>)a).compareTo(b), this.concurrent);
+        return new OrderedCollectable<>(this.source(), (a, b) -> ((Comparable<E>)a).compareTo(b), this.concurrent, this.context);
     }
 
     public OrderedCollectable<E> sorted(final Comparator<E> comparator){
         Objects.requireNonNull(comparator, "Comparator could not be null.");
-        return new OrderedCollectable<>(this.source(), comparator, this.concurrent);
+        return new OrderedCollectable<>(this.source(), comparator, this.concurrent, this.context);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ExternalCollectable<E> sorted(final Codec<E> codec, final long budget){
+        return new ExternalCollectable<>(this.source(), (a, b) -> ((Comparable<E>)a).compareTo(b), codec, budget, this.concurrent, this.context);
+    }
+
+    public ExternalCollectable<E> sorted(final Comparator<E> comparator, final Codec<E> codec, final long budget){
+        return new ExternalCollectable<>(this.source(), comparator, codec, budget, this.concurrent, this.context);
+    }
+
+    @SuppressWarnings("unchecked")
+    public OrderedCollectable<E> top(final long count){
+        return this.top(count, (a, b) -> ((Comparable<E>)a).compareTo(b));
+    }
+
+    public OrderedCollectable<E> top(final long count, final Comparator<E> comparator){
+        List<E> selected = Collectors.useTop(count, comparator).collect(this.generator, this.concurrent, this.context);
+        return new OrderedCollectable<>(Semantic.useFrom(selected).source(), this.concurrent, this.context);
+    }
+
+    @SuppressWarnings("unchecked")
+    public OrderedCollectable<E> bottom(final long count){
+        return this.bottom(count, (a, b) -> ((Comparable<E>)a).compareTo(b));
+    }
+
+    public OrderedCollectable<E> bottom(final long count, final Comparator<E> comparator){
+        List<E> selected = Collectors.useBottom(count, comparator).collect(this.generator, this.concurrent, this.context);
+        return new OrderedCollectable<>(Semantic.useFrom(selected).source(), this.concurrent, this.context);
     }
 
     public Generator<E> source(){
@@ -402,7 +659,7 @@ public class Semantic<E> {
                 stop.set(stop.get() || interrupt.test(element, index));
                 return stop.get();
             });
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public Semantic<E> takeWhile(final BiPredicate<E, Long> predicate) {
@@ -419,103 +676,363 @@ public class Semantic<E> {
                 stop.set(stop.get() || interrupt.test(element, index));
                 return stop.get();
             });
-        }, this.concurrent);
+        }, this.concurrent, this.context);
     }
 
     public ByteStatistics<E> toByteStatistics(){
-        return new ByteStatistics<>(this.source(), this.concurrent);
+        return new ByteStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public ShortStatistics<E> toShortStatistics(){
-        return new ShortStatistics<>(this.source(), this.concurrent);
+        return new ShortStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public FloatStatistics<E> toFloatStatistics(){
-        return new FloatStatistics<>(this.source(), this.concurrent);
+        return new FloatStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public IntStatistics<E> toIntStatistics(){
-        return new IntStatistics<>(this.source(), this.concurrent);
+        return new IntStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public DoubleStatistics<E> toDoubleStatistics(){
-        return new DoubleStatistics<>(this.source(), this.concurrent);
+        return new DoubleStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public LongStatistics<E> toLongStatistics(){
-        return new LongStatistics<>(this.source(), this.concurrent);
+        return new LongStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public BigIntegerStatistics<E> toBigIntegerStatistics(){
-        return new BigIntegerStatistics<>(this.source(), this.concurrent);
+        return new BigIntegerStatistics<>(this.source(), this.concurrent, this.context);
     }
 
     public BigDecimalStatistics<E> toBigDecimalStatistics(){
-        return new BigDecimalStatistics<>(this.source(), this.concurrent);
+        return new BigDecimalStatistics<>(this.source(), this.concurrent, this.context);
+    }
+
+    public OffHeapCollectable<E> toOffHeap(final Codec<E> codec) {
+        return new OffHeapCollectable<>(this.source(), codec, this.concurrent, this.context);
+    }
+
+    public Flow.Publisher<E> toPublisher() {
+        return new FlowPublisher<>(this.generator, this.context);
     }
 
     public OrderedCollectable<E> toOrdered() {
-        return new OrderedCollectable<>(this.source(), this.concurrent);
+        return new OrderedCollectable<>(this.source(), this.concurrent, this.context);
     }
 
     public WindowCollectable<E> toWindow(){
-        return new WindowCollectable<>(this.source(), this.concurrent);
+        return new WindowCollectable<>(this.source(), this.concurrent, this.context);
     }
 
     public UnorderedCollectable<E> toUnordered(){
-        return new UnorderedCollectable<>(this.source(), this.concurrent);
+        return new UnorderedCollectable<>(this.source(), this.concurrent, this.context);
     }
 
     public static Semantic<Long> useRange(long start, long end){
         long minimum = Math.min(start, end);
         long maximum = Math.max(start, end);
-        return new Semantic<>((accept, interrupt) -> {
-            for(long index = minimum; index < maximum; index++){
-                if(interrupt.test(index, index)){
+        return new Semantic<>(SplittableGenerator.useSplitter(maximum - minimum, (from, to) -> (sink) -> {
+            for(long index = minimum + from; index < minimum + to; index++){
+                Long element = index;
+                if(sink.test(element, index)){
                     break;
                 }
-                accept.accept(index, index);
+                sink.accept(element, index);
             }
-        });
+        }));
     }
 
     public static Semantic<Long> useRange(long start, long end, long step){
         long minimum = Math.min(start, end);
         long maximum = Math.max(start, end);
         long gap = Math.max(1L, Math.abs(step));
-        return new Semantic<>((accept, interrupt) -> {
-            for(long index = minimum; index < maximum; index+=gap){
-                if(interrupt.test(index, index)){
+        return new Semantic<>(SplittableGenerator.useSplitter((maximum - minimum + gap - 1L) / gap, (from, to) -> (sink) -> {
+            for(long index = minimum + from * gap; index < minimum + to * gap; index+=gap){
+                Long element = index;
+                if(sink.test(element, index)){
                     break;
                 }
-                accept.accept(index, index);
+                sink.accept(element, index);
             }
-        });
+        }));
     }
 
     public static <E> Semantic<E> useFrom(final Iterable<E> iterable){
         Objects.requireNonNull(iterable, "Iterable could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
+        if(iterable instanceof List<E> list && iterable instanceof RandomAccess){
+            return useFrom(list);
+        }
+        return new Semantic<>((IndexedGenerator<E>) (sink) -> {
             long index = 0;
             for(E element : iterable){
-                if(interrupt.test(element, index)){
+                if(sink.test(element, index)){
                     break;
                 }
-                accept.accept(element, index);
+                sink.accept(element, index);
+                index++;
             }
         });
     }
 
+    public static <E> Semantic<E> useFrom(final List<E> list){
+        Objects.requireNonNull(list, "List could not be null.");
+        if(!(list instanceof RandomAccess)){
+            return useFrom((Iterable<E>) list);
+        }
+        return new Semantic<>(SplittableGenerator.useSplitter(list.size(), (from, to) -> (sink) -> {
+            for(long index = from; index < to; index++){
+                E element = list.get((int) index);
+                if(sink.test(element, index)){
+                    break;
+                }
+                sink.accept(element, index);
+            }
+        }));
+    }
+
     public static <E> Semantic<E> useFrom(final E[] elements){
         Objects.requireNonNull(elements, "Elements could not be null.");
-        return new Semantic<>((accept, interrupt) -> {
-            long index = 0;
-            for(E element : elements){
-                if(interrupt.test(element, index)){
+        return new Semantic<>(SplittableGenerator.useSplitter(elements.length, (from, to) -> (sink) -> {
+            for(long index = from; index < to; index++){
+                E element = elements[(int) index];
+                if(sink.test(element, index)){
                     break;
                 }
-                accept.accept(element, index);
+                sink.accept(element, index);
+            }
+        }));
+    }
+
+    /**
+     * Streams the records of a delimited file, indexed by their zero-based record number after any header. A split
+     * that does not start at zero finds its first record through an index of record starts, built once per source
+     * by a sequential pass over the file.
+     */
+    public static Semantic<String[]> useDelimited(final Path path, final DelimitedSchema schema){
+        Objects.requireNonNull(path, "Path could not be null.");
+        Objects.requireNonNull(schema, "Schema could not be null.");
+        long size;
+        try{
+            size = Files.size(path);
+        }catch (IOException exception){
+            throw new RuntimeException(exception);
+        }
+        DelimitedReader.Index index = new DelimitedReader.Index(size);
+        return new Semantic<>(SplittableGenerator.useSplitter(size, (from, to) -> (sink) -> {
+            if(from >= to){
+                return;
+            }
+            try(DelimitedReader reader = new DelimitedReader(path, schema, index)){
+                long ordinal = reader.locate(from);
+                if(schema.header){
+                    if(ordinal == 0L){
+                        reader.read(to);
+                    }else{
+                        ordinal--;
+                    }
+                }
+                for(String[] record = reader.read(to); Objects.nonNull(record); record = reader.read(to)){
+                    if(sink.test(record, ordinal)){
+                        break;
+                    }
+                    sink.accept(record, ordinal);
+                    ordinal++;
+                }
+            }catch (IOException exception){
+                throw new RuntimeException(exception);
+            }
+        }));
+    }
+
+    public static Semantic<String> useLines(final Path path){
+        return useLines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams the lines of a file, indexed by their zero-based line number whatever the charset. UTF-8 and
+     * single-byte files are split by byte range; a split that does not start at zero counts the line feeds ahead
+     * of it once per source.
+     */
+    public static Semantic<String> useLines(final Path path, final Charset charset){
+        Objects.requireNonNull(path, "Path could not be null.");
+        Objects.requireNonNull(charset, "Charset could not be null.");
+        if(!Arrays.equals("\n".getBytes(charset), new byte[]{'\n'}) || (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() > 1F)){
+            return new Semantic<>((accept, interrupt) -> {
+                try(BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(path), charset), 1 << 16)){
+                    long index = 0;
+                    for(String line = reader.readLine(); Objects.nonNull(line); line = reader.readLine()){
+                        if(interrupt.test(line, index)){
+                            break;
+                        }
+                        accept.accept(line, index);
+                        index++;
+                    }
+                }catch (IOException exception){
+                    throw new RuntimeException(exception);
+                }
+            });
+        }
+        long size;
+        try{
+            size = Files.size(path);
+        }catch (IOException exception){
+            throw new RuntimeException(exception);
+        }
+        Newlines newlines = new Newlines(path, size);
+        return new Semantic<>(SplittableGenerator.useSplitter(size, (from, to) -> (sink) -> {
+            if(from >= to){
+                return;
+            }
+            try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+                byte[] chunk = new byte[1 << 20];
+                ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                byte[] line = new byte[256];
+                int length = 0;
+                boolean skipping = from > 0;
+                long position = skipping ? from - 1L : 0L;
+                long start = from;
+                long index = skipping ? newlines.before(position) + 1L : 0L;
+                for(int read = channel.read(buffer, position); read >= 0; read = channel.read(buffer.clear(), position)){
+                    int offset = 0;
+                    for(int cursor = 0; cursor < read; cursor++){
+                        if(chunk[cursor] != '\n'){
+                            continue;
+                        }
+                        if(!skipping){
+                            String text;
+                            if(length == 0){
+                                int end = cursor > offset && chunk[cursor - 1] == '\r' ? cursor - 1 : cursor;
+                                text = new String(chunk, offset, end - offset, charset);
+                            }else{
+                                line = append(line, length, chunk, offset, cursor - offset);
+                                length += cursor - offset;
+                                text = new String(line, 0, line[length - 1] == '\r' ? length - 1 : length, charset);
+                                length = 0;
+                            }
+                            if(sink.test(text, index)){
+                                return;
+                            }
+                            sink.accept(text, index);
+                            index++;
+                        }
+                        skipping = false;
+                        offset = cursor + 1;
+                        start = position + offset;
+                        if(start >= to){
+                            return;
+                        }
+                    }
+                    if(!skipping && offset < read){
+                        line = append(line, length, chunk, offset, read - offset);
+                        length += read - offset;
+                    }
+                    position += read;
+                }
+                if(!skipping && length > 0){
+                    String text = new String(line, 0, line[length - 1] == '\r' ? length - 1 : length, charset);
+                    if(!sink.test(text, index)){
+                        sink.accept(text, index);
+                    }
+                }
+            }catch (IOException exception){
+                throw new RuntimeException(exception);
+            }
+        }));
+    }
+
+    private static byte[] append(byte[] line, int length, byte[] chunk, int offset, int count){
+        if(length + count > line.length){
+            line = Arrays.copyOf(line, Math.max(line.length << 1, length + count));
+        }
+        System.arraycopy(chunk, offset, line, length, count);
+        return line;
+    }
+
+    public static Semantic<Byte> useMapped(final Path path){
+        return useMapped(path, 1, () -> ByteBuffer::get);
+    }
+
+    public static Semantic<ByteBuffer> useMapped(final Path path, final int width){
+        return useMapped(path, width, () -> (region) -> {
+            ByteBuffer record = region.slice(region.position(), width);
+            region.position(region.position() + width);
+            return record;
+        });
+    }
+
+    public static <E> Semantic<E> useMapped(final Path path, final Codec<E> codec){
+        Objects.requireNonNull(codec, "Codec could not be null.");
+        if(codec.width() < 1){
+            throw new IllegalArgumentException("Codec must have a fixed width.");
+        }
+        int width = codec.width();
+        return useMapped(path, width, () -> {
+            BufferInput[] input = {null};
+            return (region) -> {
+                if(Objects.isNull(input[0])){
+                    input[0] = new BufferInput(region);
+                }
+                input[0].reset(region, region.position(), region.position() + width);
+                try{
+                    return codec.decode(input[0]);
+                }catch (IOException exception){
+                    throw new RuntimeException(exception);
+                }finally{
+                    region.position(region.position() + width);
+                }
+            };
+        });
+    }
+
+    private static <E> Semantic<E> useMapped(final Path path, final int width, final Supplier<Function<ByteBuffer, E>> readers){
+        Objects.requireNonNull(path, "Path could not be null.");
+        if(width < 1){
+            throw new IllegalArgumentException("Width must be positive.");
+        }
+        long size;
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            size = channel.size();
+        }catch (IOException exception){
+            throw new RuntimeException(exception);
+        }
+        long records = Math.max(1L, (1L << 30) / width);
+        return new Semantic<>(SplittableGenerator.useSplitter(size / width, (from, to) -> (sink) -> {
+            try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+                Function<ByteBuffer, E> reader = readers.get();
+                long index = from;
+                while(index < to){
+                    long limit = Math.min(to, (index / records + 1L) * records);
+                    ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, index * width, (limit - index) * width);
+                    for(; index < limit; index++){
+                        E element = reader.apply(region);
+                        if(sink.test(element, index)){
+                            return;
+                        }
+                        sink.accept(element, index);
+                    }
+                }
+            }catch (IOException exception){
+                throw new RuntimeException(exception);
             }
+        }));
+    }
+
+    public static <E> Semantic<E> useFrom(final Flow.Publisher<E> publisher){
+        return useFrom(publisher, 256L);
+    }
+
+    public static <E> Semantic<E> useFrom(final Flow.Publisher<E> publisher, final long batch){
+        Objects.requireNonNull(publisher, "Publisher could not be null.");
+        if(batch < 1){
+            throw new IllegalArgumentException("Batch must be positive.");
+        }
+        return new Semantic<>((IndexedGenerator<E>) (sink) -> {
+            FlowSubscriber<E> subscriber = new FlowSubscriber<>(batch);
+            publisher.subscribe(subscriber);
+            subscriber.drain(sink);
         });
     }
 
@@ -523,14 +1040,17 @@ public class Semantic<E> {
         Objects.requireNonNull(stream, "Stream could not be null.");
         return new Semantic<>((accept, interrupt) -> {
             long index = 0;
+            byte[] buffer = new byte[8192];
             try{
-               for(byte b : stream.readAllBytes()){
-                   if(interrupt.test(b, index)){
-                       break;
-                   }
-                   accept.accept(b, index);
-                   index++;
-               }
+                for(int read = stream.read(buffer); read >= 0; read = stream.read(buffer)){
+                    for(int position = 0; position < read; position++){
+                        if(interrupt.test(buffer[position], index)){
+                            return;
+                        }
+                        accept.accept(buffer[position], index);
+                        index++;
+                    }
+                }
             }catch (IOException exception){
                 throw new RuntimeException(exception);
             }
@@ -541,36 +1061,97 @@ public class Semantic<E> {
         Objects.requireNonNull(stream, "Stream could not be null.");
         Objects.requireNonNull(charset, "Charset could not be null.");
         return new Semantic<>((accept, interrupt) -> {
-            long index = 0;
-            try(InputStreamReader reader = new InputStreamReader(stream, charset)){
-                char[] buffer = new char[stream.available()];
-                reader.read(buffer);
-                for(Character character : buffer){
-                    if(interrupt.test(character, index)){
-                        break;
+            long[] index = {0L};
+            decode(stream, charset, 8192, (chunk) -> {
+                while(chunk.hasRemaining()){
+                    char character = chunk.get();
+                    if(interrupt.test(character, index[0])){
+                        return true;
                     }
-                    accept.accept(character, index);
-                    index++;
+                    accept.accept(character, index[0]);
+                    index[0]++;
                 }
-            }catch (IOException exception){
-                throw new RuntimeException(exception);
-            }
+                return false;
+            });
         });
     }
 
-    public static Semantic<String> useCodePoint(final String text){
-        Objects.requireNonNull(text, "Text could not be null.");
+    public static Semantic<String> useBlob(final InputStream stream, final Charset charset, final int size){
+        Objects.requireNonNull(stream, "Stream could not be null.");
+        Objects.requireNonNull(charset, "Charset could not be null.");
+        if(size < 1){
+            throw new IllegalArgumentException("Size must be positive.");
+        }
         return new Semantic<>((accept, interrupt) -> {
-            for (int index = 0; index < text.codePointCount(0, text.length()); index++) {
-                String point = Character.toString(text.codePointAt(index));
-                if(interrupt.test(point, (long) index)){
-                    break;
+            long[] index = {0L};
+            decode(stream, charset, size, (chunk) -> {
+                String text = chunk.toString();
+                if(interrupt.test(text, index[0])){
+                    return true;
                 }
-                accept.accept(point, (long) index);
-            }
+                accept.accept(text, index[0]);
+                index[0]++;
+                return false;
+            });
         });
     }
 
+    private static void decode(final InputStream stream, final Charset charset, final int size, final Predicate<CharBuffer> consumer){
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        byte[] bytes = new byte[Math.max(size, 64)];
+        ByteBuffer input = ByteBuffer.wrap(bytes).flip();
+        CharBuffer output = CharBuffer.allocate(Math.max(size, 2));
+        boolean end = false;
+        boolean flushing = false;
+        try(stream){
+            while(true){
+                if(!end){
+                    input.compact();
+                    int read = stream.read(bytes, input.position(), input.remaining());
+                    if(read < 0){
+                        end = true;
+                    }else{
+                        input.position(input.position() + read);
+                    }
+                    input.flip();
+                }
+                boolean finished = false;
+                if(!flushing && decoder.decode(input, output, end).isUnderflow() && end){
+                    flushing = true;
+                }
+                if(flushing){
+                    finished = decoder.flush(output).isUnderflow();
+                }
+                output.flip();
+                boolean stop = false;
+                while(!stop && output.hasRemaining()){
+                    int start = output.position();
+                    int limit = output.limit();
+                    int length = Math.min(size, limit - start);
+                    if(length < limit - start && Character.isHighSurrogate(output.get(start + length - 1))){
+                        length++;
+                    }
+                    output.limit(start + length);
+                    stop = consumer.test(output);
+                    output.limit(limit).position(start + length);
+                }
+                output.clear();
+                if(stop || finished){
+                    return;
+                }
+            }
+        }catch (IOException exception){
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public static Semantic<String> useCodePoint(final String text){
+        Objects.requireNonNull(text, "Text could not be null.");
+        return IntSemantic.useCodePoint(text).mapToObject(Character::toString);
+    }
+
     public static Semantic<String> useText(final String text){
         Objects.requireNonNull(text, "Text could not be null.");
         return new Semantic<>((accept, interrupt) -> {
@@ -584,16 +1165,91 @@ public class Semantic<E> {
     public static Semantic<String> useText(final String text, final String delimiter){
         Objects.requireNonNull(text, "Text could not be null.");
         Objects.requireNonNull(delimiter, "Delimiter could not be null.");
+        return new Semantic<>(split(text, delimiter, false));
+    }
+
+    public static Semantic<CharSequence> useSlices(final CharSequence text, final String delimiter){
+        Objects.requireNonNull(text, "Text could not be null.");
+        Objects.requireNonNull(delimiter, "Delimiter could not be null.");
+        return new Semantic<>(split(text, delimiter, true));
+    }
+
+    public static Semantic<String> useMatches(final CharSequence text, final Pattern pattern){
+        Objects.requireNonNull(text, "Text could not be null.");
+        Objects.requireNonNull(pattern, "Pattern could not be null.");
         return new Semantic<>((accept, interrupt) -> {
-            if(!text.isEmpty() && !delimiter.isEmpty()){
-                String[] pool = text.split(delimiter);
-                for (int index = 0; index < pool.length; index++) {
-                    if(interrupt.test(pool[index], (long) index)){
+            Matcher matcher = pattern.matcher(text);
+            long index = 0;
+            while(matcher.find()){
+                String match = matcher.group();
+                if(interrupt.test(match, index)){
+                    break;
+                }
+                accept.accept(match, index);
+                index++;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CharSequence> Generator<T> split(final CharSequence text, final String delimiter, final boolean view){
+        return (accept, interrupt) -> {
+            if(text.length() == 0 || delimiter.isEmpty()){
+                return;
+            }
+            long index = 0;
+            long empty = 0;
+            int start = 0;
+            while(start <= text.length()){
+                int found = indexOf(text, delimiter, start);
+                int end = found < 0 ? text.length() : found;
+                if(end == start){
+                    if(found < 0){
                         break;
                     }
-                    accept.accept(pool[index], (long) index);
+                    empty++;
+                }else{
+                    for(; empty > 0; empty--){
+                        T blank = (T) (view ? CharBuffer.wrap(text, start, start) : "");
+                        if(interrupt.test(blank, index)){
+                            return;
+                        }
+                        accept.accept(blank, index);
+                        index++;
+                    }
+                    T token = (T) (view ? CharBuffer.wrap(text, start, end) : text.subSequence(start, end).toString());
+                    if(interrupt.test(token, index)){
+                        return;
+                    }
+                    accept.accept(token, index);
+                    index++;
+                }
+                if(found < 0){
+                    break;
                 }
+                start = found + delimiter.length();
             }
-        });
+        };
+    }
+
+    private static int indexOf(final CharSequence text, final String delimiter, final int from){
+        if(text instanceof String string){
+            return string.indexOf(delimiter, from);
+        }
+        char first = delimiter.charAt(0);
+        int last = text.length() - delimiter.length();
+        for(int position = from; position <= last; position++){
+            if(text.charAt(position) != first){
+                continue;
+            }
+            int offset = 1;
+            while(offset < delimiter.length() && text.charAt(position + offset) == delimiter.charAt(offset)){
+                offset++;
+            }
+            if(offset == delimiter.length()){
+                return position;
+            }
+        }
+        return -1;
     }
 }
@@ -4,6 +4,8 @@ import java.util.Comparator;
 
 public class ShortStatistics<E> extends Statistics<E, Short>{
 
+    private final Column<E, Short, ?> column = new LongColumn<>(this.buffer, (value) -> (short) value, (short) 0);
+
     protected ShortStatistics(Generator<E> generator) {
         super(generator);
     }
@@ -20,6 +22,10 @@ public class ShortStatistics<E> extends Statistics<E, Short>{
         super(generator, concurrent);
     }
 
+    protected ShortStatistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     @Override
     public Short absolute(Short a) {
         return (short) Math.abs(a);
@@ -77,5 +83,8 @@ public class ShortStatistics<E> extends Statistics<E, Short>{
         return (short) Math.pow(a, b);
     }
 
-
+    @Override
+    Column<E, Short, ?> column() {
+        return this.column;
+    }
 }
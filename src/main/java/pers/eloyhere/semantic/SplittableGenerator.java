@@ -0,0 +1,34 @@
+package pers.eloyhere.semantic;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public interface SplittableGenerator<T> extends IndexedGenerator<T> {
+
+    public long size();
+
+    public IndexedGenerator<T> split(long start, long end);
+
+    @Override
+    public default void generate(IndexedSink<T> sink) {
+        this.split(0L, this.size()).generate(sink);
+    }
+
+    public static <T> SplittableGenerator<T> useSplitter(final long size, final BiFunction<Long, Long, IndexedGenerator<T>> splitter){
+        Objects.requireNonNull(splitter, "Splitter could not be null.");
+        if(size < 0){
+            throw new IllegalArgumentException("Size could not less than 0.");
+        }
+        return new SplittableGenerator<>() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public IndexedGenerator<T> split(long start, long end) {
+                return splitter.apply(Math.max(start, 0L), Math.min(end, size));
+            }
+        };
+    }
+}
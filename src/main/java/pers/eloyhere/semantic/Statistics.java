@@ -5,6 +5,9 @@ import java.util.function.Function;
 
 public abstract class Statistics<E, D extends Number> extends OrderedCollectable<E>{
 
+    @SuppressWarnings("unchecked")
+    private final Function<E, D> identity = (element) -> (D) element;
+
     protected Statistics(Generator<E> generator) {
         super(generator);
     }
@@ -13,6 +16,10 @@ public abstract class Statistics<E, D extends Number> extends OrderedCollectable
         super(generator, concurrent);
     }
 
+    protected Statistics(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     protected Statistics(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -33,12 +40,23 @@ public abstract class Statistics<E, D extends Number> extends OrderedCollectable
     public abstract D divide(D a, long b);
     public abstract D power(D a, D b);
 
-    @SuppressWarnings("unchecked")
-    public D average(){
-        return this.average((element) -> (D) element);
+    Column<E, D, ?> column() {
+        return null;
+    }
+
+    private Function<E, D> extraction(final Function<E, D> mapper) {
+        return mapper == this.identity ? null : mapper;
+    }
+
+    public D average() {
+        return this.average(this.identity);
     }
 
     public D average(final Function<E, D> mapper){
+        Column<E, D, ?> column = this.column();
+        if(Objects.nonNull(column)){
+            return column.average(this.extraction(mapper));
+        }
         Collector<E, D, D> collector = Collector.useFull(
                 this::zero,
                 (accumulator, element, index) -> this.plus(accumulator, mapper.apply(element)),
@@ -48,12 +66,15 @@ public abstract class Statistics<E, D extends Number> extends OrderedCollectable
         return collector.collect(this.source());
     }
 
-    @SuppressWarnings("unchecked")
-    public D summate(){
-        return this.summate((element) -> (D) element);
+    public D summate() {
+        return this.summate(this.identity);
     }
 
     public D summate(final Function<E, D> mapper){
+        Column<E, D, ?> column = this.column();
+        if(Objects.nonNull(column)){
+            return column.summate(this.extraction(mapper));
+        }
         Collector<E, D, D> collector = Collector.useFull(
                 this::zero,
                 (accumulator, element, index) -> this.plus(accumulator, mapper.apply(element)),
@@ -73,27 +94,67 @@ public abstract class Statistics<E, D extends Number> extends OrderedCollectable
         return collector.collect(this.source());
     }
 
-    @SuppressWarnings("unchecked")
     public D median() {
-        return this.median((element) -> (D) element);
+        return this.median(this.identity);
     }
 
     public D median(final Function<E, D> mapper) {
-        List<D> values = new ArrayList<>();
-        this.forEach(element -> values.add(mapper.apply(element)));
-        values.sort(this::compare);
-
-        int size = values.size();
+        int size = this.buffer.length;
         if (size == 0) {
             return this.zero();
         }
         if (size % 2 == 1) {
-            return values.get(size / 2);
-        } else {
-            D lower = values.get(size / 2 - 1);
-            D upper = values.get(size / 2);
-            return this.divide(this.plus(lower, upper), 2L);
+            return this.select(mapper, new int[]{size / 2}).get(0);
+        }
+        List<D> middle = this.select(mapper, new int[]{size / 2 - 1, size / 2});
+        return this.divide(this.plus(middle.get(0), middle.get(1)), 2L);
+    }
+
+    public D percentile(final double percentile) {
+        return this.percentile(this.identity, percentile);
+    }
+
+    public D percentile(final Function<E, D> mapper, final double percentile) {
+        return this.percentiles(mapper, percentile).get(0);
+    }
+
+    public List<D> percentiles(final double... percentiles) {
+        return this.percentiles(this.identity, percentiles);
+    }
+
+    public List<D> percentiles(final Function<E, D> mapper, final double... percentiles) {
+        Objects.requireNonNull(percentiles, "Percentiles could not be null.");
+        int size = this.buffer.length;
+        int[] ranks = new int[percentiles.length];
+        for (int index = 0; index < percentiles.length; index++) {
+            double percentile = percentiles[index];
+            if (!(percentile >= 0.0 && percentile <= 100.0)) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+            }
+            ranks[index] = (int) Math.max(Math.ceil(percentile / 100.0 * size) - 1.0, 0.0);
+        }
+        if (size == 0) {
+            return new ArrayList<>(Collections.nCopies(ranks.length, this.zero()));
+        }
+        return this.select(mapper, ranks);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<D> select(final Function<E, D> mapper, final int[] ranks) {
+        Column<E, D, ?> column = this.column();
+        if(Objects.nonNull(column)){
+            return column.select(this.extraction(mapper), ranks);
+        }
+        Object[] values = new Object[this.buffer.length];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = mapper.apply(this.buffer[index]);
+        }
+        Kernels.select(values, ranks, (a, b) -> this.compare((D) a, (D) b));
+        List<D> selection = new ArrayList<>(ranks.length);
+        for (int rank : ranks) {
+            selection.add((D) values[rank]);
         }
+        return selection;
     }
 
     public Optional<E> mode(){
@@ -106,12 +167,15 @@ public abstract class Statistics<E, D extends Number> extends OrderedCollectable
         return collector.collect(this.source());
     }
 
-    @SuppressWarnings("unchecked")
     public D variance() {
-        return this.variance((element) -> (D) element);
+        return this.variance(this.identity);
     }
 
     public D variance(final Function<E, D> mapper) {
+        Column<E, D, ?> column = this.column();
+        if(Objects.nonNull(column)){
+            return column.variance(this.extraction(mapper));
+        }
         D mean = this.average(mapper);
         long count = this.count();
 
@@ -133,9 +197,60 @@ public abstract class Statistics<E, D extends Number> extends OrderedCollectable
         return collector.collect(this.source());
     }
 
-    @SuppressWarnings("unchecked")
     public D standardDeviation() {
-        return this.standardDeviation((element) -> (D) element);
+        return this.squareRoot(this.variance());
+    }
+
+    public Summary<D> summary() {
+        return this.summary(this.identity);
+    }
+
+    public Summary<D> summary(final Function<E, D> mapper) {
+        Collector<E, Summary<D>, Summary<D>> collector = Collector.useMutable(
+                () -> new Summary<>(this.zero(), this::plus, this::compare),
+                (summary, element, index) -> summary.accept(mapper.apply(element)),
+                Summary::merge,
+                (summary) -> summary
+        );
+        return collector.collect(this.source(), this.concurrent, this.context);
+    }
+
+    public D minimum() {
+        return this.minimum(this.identity);
+    }
+
+    public D minimum(final Function<E, D> mapper) {
+        Column<E, D, ?> column = this.column();
+        if(Objects.nonNull(column)){
+            return column.minimum(this.extraction(mapper));
+        }
+        return this.extremum(mapper, -1);
+    }
+
+    public D maximum() {
+        return this.maximum(this.identity);
+    }
+
+    public D maximum(final Function<E, D> mapper) {
+        Column<E, D, ?> column = this.column();
+        if(Objects.nonNull(column)){
+            return column.maximum(this.extraction(mapper));
+        }
+        return this.extremum(mapper, 1);
+    }
+
+    private D extremum(final Function<E, D> mapper, final int sign) {
+        if (this.buffer.length == 0) {
+            return this.zero();
+        }
+        D extremum = mapper.apply(this.buffer[0]);
+        for (int index = 1; index < this.buffer.length; index++) {
+            D value = mapper.apply(this.buffer[index]);
+            if (this.compare(value, extremum) * sign > 0) {
+                extremum = value;
+            }
+        }
+        return extremum;
     }
 
     public D standardDeviation(final Function<E, D> mapper) {
@@ -0,0 +1,110 @@
+package pers.eloyhere.semantic;
+
+import java.util.Comparator;
+import java.util.function.BinaryOperator;
+
+/**
+ * One-pass summary of a {@link Statistics}. The sum, minimum and maximum keep the element type, so integral and
+ * big-number statistics report them exactly; the average and variance are accumulated in double.
+ */
+public final class Summary<D extends Number> {
+
+    private final D zero;
+
+    private final BinaryOperator<D> plus;
+
+    private final Comparator<D> comparator;
+
+    private long count = 0L;
+
+    private D summate;
+
+    private double mean = 0.0;
+
+    private double squares = 0.0;
+
+    private D minimum;
+
+    private D maximum;
+
+    Summary(D zero, BinaryOperator<D> plus, Comparator<D> comparator) {
+        this.zero = zero;
+        this.plus = plus;
+        this.comparator = comparator;
+        this.summate = zero;
+    }
+
+    void accept(D value) {
+        this.count++;
+        this.summate = this.plus.apply(this.summate, value);
+        double delta = value.doubleValue() - this.mean;
+        this.mean += delta / this.count;
+        this.squares += delta * (value.doubleValue() - this.mean);
+        if(this.count == 1L || this.comparator.compare(value, this.minimum) < 0){
+            this.minimum = value;
+        }
+        if(this.count == 1L || this.comparator.compare(value, this.maximum) > 0){
+            this.maximum = value;
+        }
+    }
+
+    void merge(Summary<D> other) {
+        if(other.count == 0L){
+            return;
+        }
+        if(this.count == 0L){
+            this.count = other.count;
+            this.summate = other.summate;
+            this.mean = other.mean;
+            this.squares = other.squares;
+            this.minimum = other.minimum;
+            this.maximum = other.maximum;
+            return;
+        }
+        long count = this.count + other.count;
+        double delta = other.mean - this.mean;
+        this.mean += delta * other.count / count;
+        this.squares += other.squares + delta * delta * ((double) this.count * other.count / count);
+        this.summate = this.plus.apply(this.summate, other.summate);
+        if(this.comparator.compare(other.minimum, this.minimum) < 0){
+            this.minimum = other.minimum;
+        }
+        if(this.comparator.compare(other.maximum, this.maximum) > 0){
+            this.maximum = other.maximum;
+        }
+        this.count = count;
+    }
+
+    public long count() {
+        return this.count;
+    }
+
+    public D summate() {
+        return this.summate;
+    }
+
+    public double average() {
+        return this.count == 0L ? 0.0 : this.mean;
+    }
+
+    public double variance() {
+        return this.count <= 1L ? 0.0 : this.squares / (this.count - 1L);
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(this.variance());
+    }
+
+    public D minimum() {
+        return this.count == 0L ? this.zero : this.minimum;
+    }
+
+    public D maximum() {
+        return this.count == 0L ? this.zero : this.maximum;
+    }
+
+    @Override
+    public String toString() {
+        return "Summary{count=" + this.count() + ", summate=" + this.summate() + ", average=" + this.average() + ", variance=" + this.variance() + ", minimum=" + this.minimum() + ", maximum=" + this.maximum() + "}";
+    }
+}
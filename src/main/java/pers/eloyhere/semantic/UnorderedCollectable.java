@@ -1,15 +1,29 @@
 package pers.eloyhere.semantic;
 
-import java.util.Map;
-import java.util.HashMap;
 
 public class UnorderedCollectable <E> extends Collectable<E>{
 
-    private final HashMap<Long, E> buffer = new HashMap<>();
+    private final LongMap<E> buffer;
 
     protected UnorderedCollectable(Generator<E> generator, long concurrent) {
-        super(concurrent);
-        generator.accept((element, index) -> buffer.put(index, element), (element, index) -> false);
+        this(generator, concurrent, null);
+    }
+
+    protected UnorderedCollectable(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(concurrent, context);
+        Collector<E, LongMap<E>, LongMap<E>> collector = Collector.useMutable(
+                LongMap::new,
+                (map, element, index) -> {
+                    map.put(index, element);
+                },
+                LongMap::putAll,
+                (map) -> map
+        );
+        if(generator instanceof SplittableGenerator<E>){
+            this.buffer = collector.collect(generator, concurrent, context);
+        }else{
+            this.buffer = collector.collect(generator);
+        }
     }
 
     @Override
@@ -20,12 +34,13 @@ public class UnorderedCollectable <E> extends Collectable<E>{
     @Override
     public Generator<E> source() {
         return (accept, interrupt)->{
-            for(Map.Entry<Long, E> entry : this.buffer.entrySet()){
-                if(interrupt.test(entry.getValue(), entry.getKey())){
-                    break;
+            this.buffer.visit((index, element) -> {
+                if(interrupt.test(element, index)){
+                    return true;
                 }
-                accept.accept(entry.getValue(), entry.getKey());
-            }
+                accept.accept(element, index);
+                return false;
+            });
         };
     }
 }
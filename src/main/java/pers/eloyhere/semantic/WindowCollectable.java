@@ -1,7 +1,9 @@
 package pers.eloyhere.semantic;
 
-import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.*;
 
 public class WindowCollectable<E> extends OrderedCollectable<E> {
 
@@ -13,6 +15,10 @@ public class WindowCollectable<E> extends OrderedCollectable<E> {
         super(generator, concurrent);
     }
 
+    public WindowCollectable(Generator<E> generator, long concurrent, ExecutionContext context) {
+        super(generator, concurrent, context);
+    }
+
     public WindowCollectable(Generator<E> generator, Comparator<E> comparator) {
         super(generator, comparator);
     }
@@ -22,29 +28,207 @@ public class WindowCollectable<E> extends OrderedCollectable<E> {
     }
 
     public Semantic<Semantic<E>> slide(long size, long step){
-        return new Semantic<>((accept, interrupt)->{
-            long total = this.buffer.size();
-            long index = 0L;
-            boolean stop = false;
-            for (long start = 0; start < total && !stop; start += step) {
-                long end = Math.min(start + size, total);
-                if(start < end){
-                    ArrayList<E> window = new ArrayList<>();
-                    for (long i = start; i < end; i++) {
-                        window.add(this.buffer.get(i));
-                    }
-                    Semantic<E> semantic = Semantic.useFrom(window);
-                    if(interrupt.test(semantic, index)){
+        return new Semantic<>(this.source(), this.concurrent, this.context).slide(size, step);
+    }
+
+    public Semantic<Semantic<E>> tumble(long size){
+        return this.slide(size, size);
+    }
+
+    public DoubleSemantic slideSummate(final long size, final long step, final ToDoubleFunction<E> mapper){
+        validate(size, step);
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new DoubleSemantic((accept, interrupt) -> {
+            final double[] ring = new double[(int) size];
+            final long[] head = {0L};
+            final long[] tail = {0L};
+            final double[] summate = {0.0, 0.0};
+            this.aggregate(size, step, (element) -> {
+                double value = mapper.applyAsDouble(element);
+                ring[(int) (tail[0]++ % size)] = value;
+                compensate(summate, value);
+            }, () -> compensate(summate, -ring[(int) (head[0]++ % size)]), (order) -> {
+                double total = summate[0] + summate[1];
+                if(interrupt.test(total, order)){
+                    return true;
+                }
+                accept.accept(total, order);
+                return false;
+            });
+        });
+    }
+
+    public DoubleSemantic slideAverage(final long size, final long step, final ToDoubleFunction<E> mapper){
+        validate(size, step);
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return new DoubleSemantic((accept, interrupt) -> {
+            final double[] ring = new double[(int) size];
+            final long[] head = {0L};
+            final long[] tail = {0L};
+            final double[] summate = {0.0, 0.0};
+            this.aggregate(size, step, (element) -> {
+                double value = mapper.applyAsDouble(element);
+                ring[(int) (tail[0]++ % size)] = value;
+                compensate(summate, value);
+            }, () -> compensate(summate, -ring[(int) (head[0]++ % size)]), (order) -> {
+                double average = (summate[0] + summate[1]) / (tail[0] - head[0]);
+                if(interrupt.test(average, order)){
+                    return true;
+                }
+                accept.accept(average, order);
+                return false;
+            });
+        });
+    }
+
+    public LongSemantic slideCount(final long size, final long step){
+        validate(size, step);
+        return new LongSemantic((accept, interrupt) -> {
+            final long[] held = {0L};
+            this.aggregate(size, step, (element) -> held[0]++, () -> held[0]--, (order) -> {
+                if(interrupt.test(held[0], order)){
+                    return true;
+                }
+                accept.accept(held[0], order);
+                return false;
+            });
+        });
+    }
+
+    public DoubleSemantic slideMinimum(final long size, final long step, final ToDoubleFunction<E> mapper){
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return this.slideExtremum(size, step, mapper, true);
+    }
+
+    public DoubleSemantic slideMaximum(final long size, final long step, final ToDoubleFunction<E> mapper){
+        Objects.requireNonNull(mapper, "Mapper could not be null.");
+        return this.slideExtremum(size, step, mapper, false);
+    }
+
+    private DoubleSemantic slideExtremum(final long size, final long step, final ToDoubleFunction<E> mapper, final boolean minimum){
+        validate(size, step);
+        return new DoubleSemantic((accept, interrupt) -> {
+            final double[] values = new double[(int) size];
+            final long[] positions = new long[(int) size];
+            final long[] front = {0L};
+            final long[] back = {0L};
+            final long[] head = {0L};
+            final long[] tail = {0L};
+            this.aggregate(size, step, (element) -> {
+                double value = mapper.applyAsDouble(element);
+                while(back[0] > front[0]){
+                    double last = values[(int) ((back[0] - 1L) % size)];
+                    if(minimum ? value > last : value < last){
                         break;
                     }
-                    accept.accept(semantic, index);
-                    index++;
+                    back[0]--;
                 }
-            }
-        }, this.concurrent);
+                values[(int) (back[0] % size)] = value;
+                positions[(int) (back[0] % size)] = tail[0]++;
+                back[0]++;
+            }, () -> {
+                if(back[0] > front[0] && positions[(int) (front[0] % size)] == head[0]){
+                    front[0]++;
+                }
+                head[0]++;
+            }, (order) -> {
+                double extremum = values[(int) (front[0] % size)];
+                if(interrupt.test(extremum, order)){
+                    return true;
+                }
+                accept.accept(extremum, order);
+                return false;
+            });
+        });
     }
 
-    public Semantic<Semantic<E>> tumble(long size){
-        return this.slide(size, size);
+    @SuppressWarnings("unchecked")
+    public Semantic<E> slideReduce(final long size, final long step, final BinaryOperator<E> operator){
+        validate(size, step);
+        Objects.requireNonNull(operator, "Operator could not be null.");
+        return new Semantic<>((IndexedGenerator<E>) (sink) -> {
+            final Object[] elements = new Object[(int) size];
+            final Object[] suffixes = new Object[(int) size];
+            final int[] front = {0};
+            final int[] back = {0};
+            final Object[] prefix = {null};
+            this.aggregate(size, step, (element) -> {
+                elements[back[0]] = element;
+                prefix[0] = back[0] == 0 ? element : operator.apply((E) prefix[0], element);
+                back[0]++;
+            }, () -> {
+                if(front[0] == 0){
+                    for(int position = back[0] - 1; position >= 0; position--){
+                        int target = (int) size - back[0] + position;
+                        suffixes[target] = position == back[0] - 1 ? elements[position] : operator.apply((E) elements[position], (E) suffixes[target + 1]);
+                    }
+                    front[0] = back[0];
+                    back[0] = 0;
+                    prefix[0] = null;
+                }
+                suffixes[(int) size - front[0]] = null;
+                front[0]--;
+            }, (order) -> {
+                E result;
+                if(front[0] == 0){
+                    result = (E) prefix[0];
+                }else if(back[0] == 0){
+                    result = (E) suffixes[(int) size - front[0]];
+                }else{
+                    result = operator.apply((E) suffixes[(int) size - front[0]], (E) prefix[0]);
+                }
+                if(sink.test(result, order)){
+                    return true;
+                }
+                sink.accept(result, order);
+                return false;
+            });
+        }, this.concurrent, this.context);
+    }
+
+    private static void validate(final long size, final long step){
+        if(size < 1 || size > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Size must be positive.");
+        }
+        if(step < 1){
+            throw new IllegalArgumentException("Step must be positive.");
+        }
+    }
+
+    /**
+     * Neumaier-compensated add into {@code summate = {total, compensation}}, so that evicting a large value does
+     * not take the small values added next to it down with it.
+     */
+    private static void compensate(final double[] summate, final double value){
+        double total = summate[0] + value;
+        summate[1] += Math.abs(summate[0]) >= Math.abs(value) ? (summate[0] - total) + value : (value - total) + summate[0];
+        summate[0] = total;
+    }
+
+    private void aggregate(final long size, final long step, final Consumer<E> add, final Runnable evict, final LongPredicate emit){
+        final long[] count = {0L};
+        final long[] start = {0L};
+        final long[] held = {0L};
+        final long[] order = {0L};
+        AtomicBoolean stop = new AtomicBoolean(false);
+        IndexedGenerator.useGenerator(this.source()).generate(IndexedSink.useSink((element, index) -> {
+            if(count[0]++ >= start[0]){
+                add.accept(element);
+                held[0]++;
+            }
+            if(start[0] + size == count[0]){
+                stop.set(emit.test(order[0]++));
+                start[0] += step;
+                for(; held[0] > 0 && count[0] - held[0] < start[0]; held[0]--){
+                    evict.run();
+                }
+            }
+        }, (element, index) -> stop.get()));
+        for(; start[0] < count[0] && !stop.get(); start[0] += step){
+            for(; held[0] > 0 && count[0] - held[0] < start[0]; held[0]--){
+                evict.run();
+            }
+            stop.set(emit.test(order[0]++));
+        }
     }
 }
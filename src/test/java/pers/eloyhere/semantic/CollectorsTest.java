@@ -0,0 +1,92 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CollectorsTest {
+
+    @Test
+    public void countKeepsItsSignature() {
+        Collector<Integer, Long, Long> collector = Collectors.useCount();
+        assertEquals(3L, collector.collect(Semantic.useFrom(List.of(1, 2, 3)).filter((element) -> element > 0).source()));
+        assertEquals(2L, collector.collect(Semantic.useFrom(List.of(1, 2, 3)).filter((element) -> element > 1).source()));
+    }
+
+    @Test
+    public void forEachKeepsItsSignature() {
+        int[] sum = {0};
+        Collector<Integer, Long, Long> collector = Collectors.useForEach((Integer element) -> sum[0] += element);
+        assertEquals(3L, collector.collect(Semantic.useFrom(List.of(1, 2, 3)).source()));
+        assertEquals(6, sum[0]);
+    }
+
+    @Test
+    public void boxedIndexLambdasKeepTheirSignature() {
+        IndexedAccumulator<Long, Integer> accumulator = (Long a, Integer element, Long index) -> a + element * index;
+        IndexedInterrupt<Long, Integer> interrupt = (Long a, Integer element, Long index) -> index >= 3L;
+        Collector<Integer, Long, Long> collector = Collector.useShortable(() -> 0L, interrupt, accumulator, Long::sum, (a) -> a);
+        assertEquals(8L, collector.collect(Semantic.useFrom(List.of(1, 2, 3, 4, 5)).source()));
+        Collector<Integer, Long, Long> unboxed = Collector.useUnboxed(() -> 0L, (Long a, Integer element, long index) -> index >= 3L, (Long a, Integer element, long index) -> a + element * index, Long::sum, (a) -> a);
+        assertEquals(8L, unboxed.collect(Semantic.useFrom(List.of(1, 2, 3, 4, 5)).source()));
+    }
+
+    @Test
+    public void partitionKeepsItsSignature() {
+        Collector<Integer, Map<Long, List<Integer>>, List<List<Integer>>> collector = Collectors.usePartition(2L);
+        assertEquals(List.of(List.of(1, 3), List.of(2, 4)), collector.collect(Semantic.useFrom(List.of(1, 2, 3, 4)).source()));
+        Collector<Integer, Map<Long, List<Integer>>, List<List<Integer>>> keyed = Collectors.usePartitionBy((Integer element) -> (long) (element % 2));
+        assertEquals(List.of(List.of(2, 4), List.of(1, 3)), keyed.collect(Semantic.useFrom(List.of(1, 2, 3, 4)).source()));
+        assertEquals(List.of(List.of(2, 4), List.of(1, 3)), Semantic.useFrom(List.of(1, 2, 3, 4)).toOrdered().partitionBy((Integer element) -> (long) (element % 2)));
+    }
+
+    @Test
+    public void batchesAgreeAcrossSplits() {
+        Collector<Long, ?, List<List<Long>>> collector = Collectors.useBatch(2, ArrayList<List<Long>>::new, List::add, List::addAll, (a) -> a);
+        List<List<Long>> expected = List.of(List.of(0L, 1L), List.of(2L, 3L), List.of(4L, 5L), List.of(6L, 7L), List.of(8L));
+        assertEquals(expected, collector.collect(Semantic.useRange(0L, 9L).source()));
+        assertEquals(expected, collector.collect(Semantic.useRange(0L, 9L).source(), 4L, ExecutionContext.useCommon()));
+        Semantic<Long> filtered = Semantic.useRange(0L, 1000L).filter((element) -> element % 7 != 0);
+        Collector<Long, ?, List<List<Long>>> wide = Collectors.useBatch(16, ArrayList<List<Long>>::new, List::add, List::addAll, (a) -> a);
+        assertEquals(wide.collect(filtered.source()), wide.collect(filtered.source(), 8L, ExecutionContext.useCommon()));
+    }
+
+    @Test
+    public void partitionBySparseKeys() {
+        Collector<Integer, Map<Long, List<Integer>>, List<List<Integer>>> keyed = Collectors.usePartitionBy((Integer element) -> element * 1_000_003L - 5L);
+        List<Integer> values = List.of(3, 1, 2, 1, -4);
+        List<List<Integer>> expected = List.of(List.of(-4), List.of(1, 1), List.of(2), List.of(3));
+        assertEquals(expected, keyed.collect(Semantic.useFrom(values).source()));
+        assertEquals(expected, Semantic.useFrom(values).parallel(2L).toOrdered().partitionBy((Integer element) -> element * 1_000_003L - 5L));
+        LongMap<String> map = new LongMap<>();
+        map.put(7L, "a");
+        map.put(Long.valueOf(9L), "b");
+        assertEquals(Map.of(7L, "a", 9L, "b"), map);
+        assertEquals("b", map.get((Object) 9L));
+    }
+
+    @Test
+    public void topAndBottomMatchAStableSort() {
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < 10_000; i++){
+            values.add((i * 7919) % 10_007);
+        }
+        Comparator<Integer> byDecade = Comparator.comparingInt((Integer element) -> element / 1_000);
+        List<Integer> sorted = new ArrayList<>(values);
+        sorted.sort(byDecade);
+        for(int count : new int[]{0, 1, 7, 1_000, 1_001, 10_000, 20_000}){
+            List<Integer> top = sorted.subList(0, Math.min(count, sorted.size()));
+            List<Integer> bottom = sorted.subList(Math.max(sorted.size() - count, 0), sorted.size());
+            assertEquals(top, Collectors.useTop(count, byDecade).collect(Semantic.useFrom(values).source()));
+            assertEquals(top, Collectors.useTop(count, byDecade).collect(Semantic.useFrom(values).source(), 4L));
+            assertEquals(bottom, Collectors.useBottom(count, byDecade).collect(Semantic.useFrom(values).source(), 4L));
+            assertEquals(top, Semantic.useFrom(values).parallel(4).top(count, byDecade).toList());
+            assertEquals(bottom, Semantic.useFrom(values).parallel(4).bottom(count, byDecade).toList());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ExecutionContextTest {
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            values.add(i);
+        }
+        return values;
+    }
+
+    @Test
+    public void nestedCollectOnBoundedContext() {
+        try(BoundedContext context = ExecutionContext.useBounded(2, 64)){
+            List<Long> counts = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Semantic.useFrom(range(8))
+                    .parallel(context, 4L)
+                    .map((element) -> Semantic.useFrom(range(1_000)).parallel(context, 4L).toUnordered().count())
+                    .toOrdered()
+                    .toList());
+            assertEquals(8, counts.size());
+            for(long count : counts){
+                assertEquals(1_000L, count);
+            }
+        }
+    }
+
+    @Test
+    public void asyncInsideParallelStage() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try{
+            ExecutionContext context = ExecutionContext.useForkJoin(pool);
+            List<Long> counts = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Semantic.useFrom(range(8))
+                    .parallel(context, 8L)
+                    .map((element) -> Semantic.useFrom(range(10_000)).parallel(context, 1L).async(16).toUnordered().count())
+                    .toOrdered()
+                    .toList());
+            for(long count : counts){
+                assertEquals(10_000L, count);
+            }
+        }finally{
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asyncOnDefaultContextWithBusyWorkers() {
+        List<Long> counts = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Semantic.useFrom(range(64))
+                .parallel(64L)
+                .map((element) -> Semantic.useFrom(range(1_000)).async(4).toUnordered().count())
+                .toOrdered()
+                .toList());
+        assertEquals(64, counts.size());
+        for(long count : counts){
+            assertEquals(1_000L, count);
+        }
+    }
+
+    @Test
+    public void nestedCollectOnDefaultContext() {
+        Iterable<Integer> outer = range(16);
+        Iterable<Integer> inner = range(5_000);
+        List<Long> counts = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Semantic.useFrom(outer)
+                .parallel(4L)
+                .map((element) -> Semantic.useFrom(inner).parallel(4L).toUnordered().count())
+                .toOrdered()
+                .toList());
+        assertEquals(16, counts.size());
+        for(long count : counts){
+            assertEquals(5_000L, count);
+        }
+        List<Long> splits = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Semantic.useFrom(range(16))
+                .parallel(4L)
+                .map((element) -> Semantic.useFrom(range(5_000)).parallel(4L).toUnordered().count())
+                .toOrdered()
+                .toList());
+        assertEquals(counts, splits);
+    }
+
+    @Test
+    public void nestedCollectOnExecutorContext() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try{
+            ExecutionContext context = ExecutionContext.useExecutor(executor, 2L);
+            List<Long> counts = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Semantic.useFrom(range(8))
+                    .parallel(context, 4L)
+                    .map((element) -> Semantic.useFrom(range(1_000)).parallel(context, 4L).toUnordered().count())
+                    .toOrdered()
+                    .toList());
+            assertEquals(8, counts.size());
+            for(long count : counts){
+                assertEquals(1_000L, count);
+            }
+        }finally{
+            executor.shutdownNow();
+        }
+    }
+}
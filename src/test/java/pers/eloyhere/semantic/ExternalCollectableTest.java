@@ -0,0 +1,54 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ExternalCollectableTest {
+
+    private static long runs() throws IOException {
+        try(Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))){
+            return files.filter((path) -> path.getFileName().toString().startsWith("semantic") && path.getFileName().toString().endsWith(".run")).count();
+        }
+    }
+
+    @Test
+    public void sortsAcrossRunsAndDeletesThemOnClose() throws IOException {
+        Random random = new Random(7L);
+        List<Long> values = new ArrayList<>();
+        for(int i = 0; i < 10_000; i++){
+            values.add(random.nextLong());
+        }
+        List<Long> expected = new ArrayList<>(values);
+        expected.sort(Long::compare);
+        long before = runs();
+        try(ExternalCollectable<Long> sorted = Semantic.useFrom(values).sorted(Codec.useLong(), 100L)){
+            assertEquals(10_000L, sorted.count());
+            assertEquals(expected, sorted.toList());
+            assertEquals(expected, sorted.toList());
+        }
+        assertEquals(before, runs());
+    }
+
+    @Test
+    public void sortsInParallel() {
+        List<Integer> values = new ArrayList<>();
+        for(int i = 5_000; i > 0; i--){
+            values.add(i);
+        }
+        try(ExternalCollectable<Integer> sorted = Semantic.useFrom(values).parallel(4).sorted(Codec.useInteger(), 300L)){
+            List<Integer> result = sorted.toList();
+            for(int i = 0; i < result.size(); i++){
+                assertEquals(i + 1, result.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class FlowPublisherTest {
+
+    private static final class Probe implements Flow.Subscriber<Integer> {
+
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.events.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.events.add("complete");
+        }
+
+        private Object next() throws InterruptedException {
+            return this.events.poll(5, TimeUnit.SECONDS);
+        }
+
+        private Object quiet() throws InterruptedException {
+            return this.events.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Probe subscribe(int count) {
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < count; i++){
+            values.add(i);
+        }
+        Probe probe = new Probe();
+        Semantic.useFrom(values).toPublisher().subscribe(probe);
+        return probe;
+    }
+
+    @Test
+    public void emitsOnlyWhatWasRequested() throws InterruptedException {
+        Probe probe = subscribe(10);
+        probe.subscription.request(3L);
+        assertEquals(List.of(0, 1, 2), List.of(probe.next(), probe.next(), probe.next()));
+        assertNull(probe.quiet());
+        probe.subscription.request(2L);
+        assertEquals(List.of(3, 4), List.of(probe.next(), probe.next()));
+        assertNull(probe.quiet());
+        probe.subscription.request(Long.MAX_VALUE);
+        probe.subscription.request(Long.MAX_VALUE);
+        for(int i = 5; i < 10; i++){
+            assertEquals(i, probe.next());
+        }
+        assertEquals("complete", probe.next());
+        assertNull(probe.quiet());
+    }
+
+    @Test
+    public void cancelStopsWithoutCompletion() throws InterruptedException {
+        Probe probe = subscribe(100);
+        probe.subscription.request(2L);
+        assertEquals(List.of(0, 1), List.of(probe.next(), probe.next()));
+        probe.subscription.cancel();
+        probe.subscription.request(5L);
+        assertNull(probe.quiet());
+    }
+
+    @Test
+    public void nonPositiveRequestSignalsError() throws InterruptedException {
+        Probe fresh = subscribe(10);
+        fresh.subscription.request(0L);
+        assertInstanceOf(IllegalArgumentException.class, fresh.next());
+        assertNull(fresh.quiet());
+        Probe running = subscribe(10);
+        running.subscription.request(2L);
+        assertEquals(List.of(0, 1), List.of(running.next(), running.next()));
+        running.subscription.request(-1L);
+        assertInstanceOf(IllegalArgumentException.class, running.next());
+        assertNull(running.quiet());
+    }
+}
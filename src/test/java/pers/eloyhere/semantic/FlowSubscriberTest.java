@@ -0,0 +1,95 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlowSubscriberTest {
+
+    private static final class Counter implements Flow.Publisher<Integer> {
+
+        private final int count;
+
+        private final List<Long> requests = new ArrayList<>();
+
+        private long delivered = 0L;
+
+        private long outstanding = 0L;
+
+        private long peak = 0L;
+
+        private boolean cancelled = false;
+
+        private Counter(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    synchronized(Counter.this){
+                        requests.add(n);
+                        outstanding += n;
+                        peak = Math.max(peak, outstanding);
+                    }
+                    while(true){
+                        int next;
+                        synchronized(Counter.this){
+                            if(cancelled || outstanding == 0L || delivered == count){
+                                break;
+                            }
+                            outstanding--;
+                            next = (int) delivered++;
+                        }
+                        subscriber.onNext(next);
+                    }
+                    synchronized(Counter.this){
+                        if(!cancelled && delivered == count){
+                            cancelled = true;
+                        }else{
+                            return;
+                        }
+                    }
+                    subscriber.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                    synchronized(Counter.this){
+                        cancelled = true;
+                    }
+                }
+            });
+        }
+    }
+
+    @Test
+    public void requestsInBatches() {
+        Counter publisher = new Counter(100);
+        List<Integer> expected = new ArrayList<>();
+        for(int i = 0; i < 100; i++){
+            expected.add(i);
+        }
+        assertEquals(expected, Semantic.useFrom(publisher, 8L).toOrdered().toList());
+        assertEquals(8L, publisher.requests.get(0));
+        for(long request : publisher.requests.subList(1, publisher.requests.size())){
+            assertEquals(4L, request);
+        }
+        assertTrue(publisher.peak <= 8L);
+    }
+
+    @Test
+    public void interruptCancelsUpstream() {
+        Counter publisher = new Counter(1_000);
+        assertEquals(List.of(0, 1, 2), Semantic.useFrom(publisher, 8L).limit(3L).toOrdered().toList());
+        assertTrue(publisher.cancelled);
+        assertTrue(publisher.delivered <= 8L);
+    }
+}
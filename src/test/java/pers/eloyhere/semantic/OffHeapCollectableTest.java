@@ -0,0 +1,63 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapCollectableTest {
+
+    private static long direct() {
+        for(BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)){
+            if(pool.getName().equals("direct")){
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0L;
+    }
+
+    @Test
+    public void closeReleasesPages() {
+        List<Long> values = new ArrayList<>();
+        for(long i = 0; i < 500_000L; i++){
+            values.add(i);
+        }
+        long before = direct();
+        OffHeapCollectable<Long> collectable = Semantic.useFrom(values).toOffHeap(Codec.useLong());
+        assertTrue(direct() - before >= 4_000_000L);
+        assertEquals(values, collectable.toList());
+        collectable.close();
+        assertTrue(direct() - before < 1_000_000L);
+        assertThrows(IllegalStateException.class, collectable::toList);
+    }
+
+    @Test
+    public void variableWidthRecords() {
+        List<String> values = List.of("a", "", "semantic", "off-heap");
+        try(OffHeapCollectable<String> collectable = Semantic.useFrom(values).parallel(2).toOffHeap(Codec.useString())){
+            assertEquals(values, collectable.toList());
+        }
+    }
+
+    @Test
+    public void outOfOrderIndices() {
+        Semantic<String> reversed = new Semantic<>((accept, interrupt) -> {
+            for(long index = 9L; index >= 0L; index--){
+                accept.accept("value-" + index, index);
+            }
+        });
+        List<String> expected = new ArrayList<>();
+        for(long index = 0L; index < 10L; index++){
+            expected.add("value-" + index);
+        }
+        try(OffHeapCollectable<String> collectable = reversed.toOffHeap(Codec.useString())){
+            assertEquals(expected, collectable.toList());
+        }
+    }
+}
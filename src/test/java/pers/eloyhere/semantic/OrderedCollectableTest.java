@@ -0,0 +1,56 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OrderedCollectableTest {
+
+    private static Semantic<String> indexed(Object... pairs) {
+        return new Semantic<>((accept, interrupt) -> {
+            for(int position = 0; position < pairs.length; position += 2){
+                accept.accept((String) pairs[position], (Long) pairs[position + 1]);
+            }
+        });
+    }
+
+    private static List<String> entries(OrderedCollectable<String> collectable) {
+        List<String> entries = new ArrayList<>();
+        collectable.source().accept((element, index) -> entries.add(index + ":" + element), (element, index) -> false);
+        return entries;
+    }
+
+    @Test
+    public void outOfOrderIndices() {
+        assertEquals(List.of("0:a", "1:b", "2:c"), entries(indexed("c", 2L, "a", 0L, "b", 1L).toOrdered()));
+        assertEquals(List.of("0:b", "1:d", "2:e"), entries(indexed("e", 9L, "b", 3L, "d", 4L).toOrdered()));
+    }
+
+    @Test
+    public void duplicateIndicesKeepTheLast() {
+        assertEquals(List.of("0:x", "1:b"), entries(indexed("a", 0L, "b", 1L, "x", 0L).toOrdered()));
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < 10_000; i++){
+            values.add(i);
+        }
+        assertEquals(List.of(9_999), Semantic.useFrom(values).parallel(4).redirect((element, index) -> 0L).toOrdered().toList());
+    }
+
+    @Test
+    public void negativeIndicesWrap() {
+        assertEquals(List.of("0:a", "1:b", "2:z"), entries(indexed("z", -1L, "a", 0L, "b", 1L).toOrdered()));
+        assertEquals(List.of("a", "c", "b"), Semantic.useFrom(List.of("a", "b", "c")).reverse().toOrdered().toList());
+        assertEquals(List.of("0:y", "1:b"), entries(indexed("x", -2L, "y", 0L, "b", 1L).toOrdered()));
+    }
+
+    @Test
+    public void comparatorCollapsesEqualElements() {
+        OrderedCollectable<String> sorted = Semantic.useFrom(List.of("bb", "a", "cc", "d")).sorted(Comparator.comparingInt(String::length));
+        assertEquals(List.of("1:d", "0:cc"), entries(sorted));
+        assertEquals(List.of(1, 2, 3), Semantic.useFrom(List.of(3, 1, 2, 3, 1)).sorted().toList());
+    }
+}
@@ -0,0 +1,99 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrimitiveSemanticTest {
+
+    @Test
+    public void limitAndSkip() {
+        assertArrayEquals(new long[]{2L, 3L, 4L}, LongSemantic.useRange(0L, 10L).skip(2L).limit(3L).toArray());
+        assertArrayEquals(new int[]{0, 1}, IntSemantic.useRange(0, 10).limit(2L).toArray());
+        assertArrayEquals(new double[]{3.0}, DoubleSemantic.useFrom(1.0, 2.0, 3.0).skip(2L).toArray());
+        assertEquals(0L, IntSemantic.useRange(0, 10).limit(0L).count());
+    }
+
+    @Test
+    public void mappingStopsAtLimit() {
+        int[] calls = {0};
+        long[] mapped = IntSemantic.useRange(0, 100).mapToLong((element) -> {
+            calls[0]++;
+            return element * 10L;
+        }).limit(3L).toArray();
+        assertArrayEquals(new long[]{0L, 10L, 20L}, mapped);
+        assertEquals(4, calls[0]);
+    }
+
+    @Test
+    public void mappingAcrossTypes() {
+        assertEquals(List.of("0.5", "1.5"), LongSemantic.useRange(0L, 2L).mapToDouble((element) -> element + 0.5).mapToObject(Double::toString).toOrdered().toList());
+        assertEquals(6, DoubleSemantic.useFrom(1.2, 2.7, 3.1).mapToInt((element) -> (int) element).summate());
+        assertEquals(3L, IntSemantic.useFrom(1, 2, 3).map((element) -> element * 2).count());
+    }
+
+    @Test
+    public void parallelMatchesSequential() {
+        LongSemantic sequential = LongSemantic.useRange(0L, 100_000L).filter((element) -> element % 3 != 0).map((element) -> element * 7L);
+        LongSemantic parallel = sequential.parallel(8L);
+        assertEquals(sequential.summate(), parallel.summate());
+        assertEquals(sequential.count(), parallel.count());
+        assertEquals(sequential.average(), parallel.average());
+        assertEquals(sequential.findMaximum(), parallel.findMaximum());
+        assertArrayEquals(sequential.toArray(), parallel.toArray());
+        assertArrayEquals(IntSemantic.useRange(0, 5_000, 3).toArray(), IntSemantic.useRange(0, 5_000, 3).parallel(4L).toArray());
+        assertArrayEquals(DoubleSemantic.useFrom(0.5, 1.5, 2.5, 3.5).map((element) -> element * 2.0).toArray(), DoubleSemantic.useFrom(0.5, 1.5, 2.5, 3.5).parallel(3L).map((element) -> element * 2.0).toArray());
+        assertEquals(List.of(0L, 2L, 4L), IntSemantic.useRange(0, 3).parallel(2L).mapToLong((element) -> element * 2L).boxed().toOrdered().toList());
+    }
+
+    @Test
+    public void mappedPipelinesKeepTheirContext() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            long summate = Semantic.useRange(0L, 64L).parallel(ExecutionContext.useForkJoin(pool), 8L).mapToLong((element) -> {
+                threads.add(Thread.currentThread());
+                try{
+                    Thread.sleep(2L);
+                }catch (InterruptedException exception){
+                    throw new RuntimeException(exception);
+                }
+                return element;
+            }).summate();
+            assertEquals(2_016L, summate);
+            assertTrue(threads.size() > 1);
+            assertTrue(threads.stream().noneMatch((thread) -> thread == Thread.currentThread()));
+        }finally{
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void codePointsPairSurrogates() {
+        String[] texts = {"", "abc", "a\uD83D\uDE00b", "\uD83D\uDE00\uD83D\uDE01", "\uD83Da", "a\uDE00", "\uDE00\uD83D", "z\uD83D"};
+        for(String text : texts){
+            int[] expected = text.codePoints().toArray();
+            assertArrayEquals(expected, IntSemantic.useCodePoint(text).toArray(), text);
+            assertArrayEquals(expected, IntSemantic.useCodePoint(new StringBuilder(text)).toArray(), text);
+            List<String> strings = new ArrayList<>();
+            for(int point : expected){
+                strings.add(Character.toString(point));
+            }
+            assertEquals(strings, Semantic.useCodePoint(text).toOrdered().toList(), text);
+        }
+        List<String> indexed = Semantic.useCodePoint("a\uD83D\uDE00b").map((element, index) -> index + ":" + element).toOrdered().toList();
+        assertEquals(List.of("0:a", "1:\uD83D\uDE00", "2:b"), indexed);
+        String large = "x\uD83D\uDE00".repeat(200_000);
+        assertEquals(400_000L, assertTimeoutPreemptively(Duration.ofSeconds(5), () -> IntSemantic.useCodePoint(large).count()));
+    }
+}
@@ -0,0 +1,193 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SemanticTest {
+
+    @Test
+    public void concatenateSplittable() {
+        Semantic<Integer> semantic = Semantic.useFrom(List.of(1, 2, 3)).concatenate(Semantic.useFrom(List.of(4, 5, 6)));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), semantic.toOrdered().toList());
+        assertEquals(6L, semantic.toUnordered().count());
+    }
+
+    @Test
+    public void concatenateSequential() {
+        Semantic<Integer> semantic = Semantic.useFrom(new LinkedHashSet<>(List.of(1, 2, 3))).concatenate(Semantic.useFrom(new LinkedHashSet<>(List.of(4, 5, 6))));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), semantic.toOrdered().toList());
+        assertEquals(6L, semantic.toUnordered().count());
+    }
+
+    @Test
+    public void concatenateParallel() {
+        Semantic<Integer> semantic = Semantic.useFrom(List.of(1, 2, 3)).concatenate(Semantic.useFrom(List.of(4, 5, 6))).parallel(4);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), semantic.toOrdered().toList());
+        assertEquals(6L, semantic.toUnordered().count());
+    }
+
+    @Test
+    public void concatenateLimit() {
+        Semantic<Integer> semantic = Semantic.useFrom(List.of(1, 2, 3)).concatenate(Semantic.useFrom(List.of(4, 5, 6))).limit(4);
+        assertEquals(List.of(1, 2, 3, 4), semantic.toOrdered().toList());
+    }
+
+    @Test
+    public void mapToPrimitive() {
+        assertArrayEquals(new long[]{2L, 4L, 6L}, Semantic.useFrom(List.of(1, 2, 3)).mapToLong((element) -> element * 2L).toArray());
+        assertArrayEquals(new int[]{1, 2}, Semantic.useFrom(List.of("a", "bb", "ccc")).mapToInt(String::length).limit(2L).toArray());
+        assertArrayEquals(new double[]{0.5, 1.5}, Semantic.useRange(0L, 2L).mapToDouble((element) -> element + 0.5).toArray());
+    }
+
+    @Test
+    public void mappedCodecRecords() throws IOException {
+        Path path = Files.createTempFile("semantic", ".bin");
+        try{
+            List<Long> expected = new ArrayList<>();
+            try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))){
+                for(long value = 0; value < 10_000L; value++){
+                    output.writeLong(value * 3L);
+                    expected.add(value * 3L);
+                }
+            }
+            assertEquals(expected, Semantic.useMapped(path, Codec.useLong()).toOrdered().toList());
+            assertEquals(expected, Semantic.useMapped(path, Codec.useLong()).parallel(4).toOrdered().toList());
+        }finally{
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void blobChunksKeepSurrogatePairs() {
+        byte[] bytes = "a\uD83D\uDE00b".getBytes(StandardCharsets.UTF_8);
+        List<String> chunks = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> Semantic.useBlob(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, 1).toOrdered().toList());
+        assertEquals(List.of("a", "\uD83D\uDE00", "b"), chunks);
+        assertEquals(List.of("a", "\uD83D\uDE00", "b"), Semantic.useBlob(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, 2).toOrdered().toList());
+        assertEquals(List.of("ab", "cd", "e"), Semantic.useBlob(new ByteArrayInputStream("abcde".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, 2).toOrdered().toList());
+    }
+
+    @Test
+    public void batchChunksInOrder() {
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), Semantic.useFrom(List.of(1, 2, 3, 4, 5)).batch(2).toOrdered().toList());
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), Semantic.useFrom(new LinkedHashSet<>(List.of(1, 2, 3, 4, 5))).batch(2).toOrdered().toList());
+    }
+
+    @Test
+    public void batchOnFilteredParallelSource() {
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < 10_000; i++){
+            values.add(i);
+        }
+        List<List<Integer>> batches = Semantic.useFrom(values).filter((element) -> element % 3 != 0).parallel(4).batch(64).toOrdered().toList();
+        List<Integer> flattened = new ArrayList<>();
+        for(List<Integer> batch : batches){
+            assertTrue(batch.size() <= 64);
+            flattened.addAll(batch);
+        }
+        assertEquals(Semantic.useFrom(values).filter((element) -> element % 3 != 0).toOrdered().toList(), flattened);
+    }
+
+    @Test
+    public void linesNumberedAcrossSplits() throws IOException {
+        Path path = Files.createTempFile("semantic", ".txt");
+        try{
+            StringBuilder builder = new StringBuilder();
+            List<String> expected = new ArrayList<>();
+            for(int line = 0; line < 200_000; line++){
+                builder.append("line-").append(line).append(line % 7 == 0 ? "\r\n" : "\n");
+                expected.add(line + ":line-" + line);
+            }
+            builder.append("tail");
+            expected.add("200000:tail");
+            Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_8));
+            assertEquals(expected, Semantic.useLines(path).map((element, index) -> index + ":" + element).toOrdered().toList());
+            assertEquals(expected, Semantic.useLines(path).parallel(4).map((element, index) -> index + ":" + element).toOrdered().toList());
+            Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_16));
+            assertEquals(expected, Semantic.useLines(path, StandardCharsets.UTF_16).map((element, index) -> index + ":" + element).toOrdered().toList());
+        }finally{
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void linesCarriageReturnAcrossChunks() throws IOException {
+        Path path = Files.createTempFile("semantic", ".txt");
+        try{
+            String first = "a".repeat((1 << 20) - 1);
+            Files.write(path, (first + "\r\nb\r\n\r\nc").getBytes(StandardCharsets.UTF_8));
+            List<String> expected = List.of("0:" + first, "1:b", "2:", "3:c");
+            assertEquals(expected, Semantic.useLines(path).map((element, index) -> index + ":" + element).toOrdered().toList());
+            assertEquals(expected, Semantic.useLines(path).parallel(8).map((element, index) -> index + ":" + element).toOrdered().toList());
+        }finally{
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void delimitedSplitsMatchSequential() throws IOException {
+        Path path = Files.createTempFile("semantic", ".csv");
+        try{
+            StringBuilder builder = new StringBuilder("id,text,tag\n");
+            List<String> expected = new ArrayList<>();
+            List<String> projected = new ArrayList<>();
+            for(int row = 0; row < 60_000; row++){
+                String text = row % 5 == 0 ? "with, comma\nand \"quoted\" line" : "plain" + row;
+                if(row == 1_000){
+                    text = "a\",\"b\n".repeat(20_000);
+                }
+                builder.append("id").append(row).append(',');
+                builder.append(text.indexOf(',') >= 0 || text.indexOf('"') >= 0 ? "\"" + text.replace("\"", "\"\"") + "\"" : text);
+                builder.append(",x").append(row).append(row == 59_999 ? "" : row % 3 == 0 ? "\r\n" : "\n");
+                expected.add(row + "|id" + row + "|" + text + "|x" + row);
+                projected.add(row + "|x" + row + "|id" + row + "|x" + row);
+            }
+            Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_8));
+            DelimitedSchema schema = DelimitedSchema.useCsv().header(true);
+            assertEquals(expected, Semantic.useDelimited(path, schema).map((record, index) -> index + "|" + String.join("|", record)).toOrdered().toList());
+            assertEquals(expected, Semantic.useDelimited(path, schema).parallel(8).map((record, index) -> index + "|" + String.join("|", record)).toOrdered().toList());
+            assertEquals(projected, Semantic.useDelimited(path, schema.project(2, 0, 2)).parallel(8).map((record, index) -> index + "|" + String.join("|", record)).toOrdered().toList());
+            List<String> headed = Semantic.useDelimited(path, DelimitedSchema.useCsv()).parallel(8).map((record, index) -> index + "|" + String.join("|", record)).toOrdered().toList();
+            assertEquals("0|id|text|tag", headed.get(0));
+            assertEquals(expected.get(59_999).replaceFirst("^59999", "60000"), headed.get(60_000));
+        }finally{
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void textSplitsLikeQuotedSplit() {
+        String[][] cases = {
+                {"a,b,c", ","}, {",a,,b,", ","}, {",,,", ","}, {"abc", ","}, {"a.b.c", "."}, {"a||b|||c||", "||"},
+                {"||a", "||"}, {"x", "x"}, {"xax", "x"}, {"a\uD83D\uDE00b\uD83D\uDE00", "\uD83D\uDE00"}, {"aaa", "aa"}
+        };
+        for(String[] pair : cases){
+            List<String> expected = List.of(pair[0].split(Pattern.quote(pair[1])));
+            assertEquals(expected, Semantic.useText(pair[0], pair[1]).toOrdered().toList(), pair[0]);
+            List<String> slices = new ArrayList<>();
+            for(CharSequence slice : Semantic.useSlices(new StringBuilder(pair[0]), pair[1]).toOrdered().toList()){
+                slices.add(slice.toString());
+            }
+            assertEquals(expected, slices, pair[0]);
+        }
+        assertEquals(List.of(), Semantic.useText("", ",").toOrdered().toList());
+        assertEquals(List.of(), Semantic.useText("a,b", "").toOrdered().toList());
+        assertEquals(List.of("0", "1"), Semantic.useText("0,1,2,3", ",").limit(2).toOrdered().toList());
+    }
+}
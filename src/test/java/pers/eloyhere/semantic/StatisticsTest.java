@@ -0,0 +1,132 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StatisticsTest {
+
+    @Test
+    public void integralKernels() {
+        IntStatistics<Integer> statistics = Semantic.useFrom(new Integer[]{5, 1, 4, 2, 3}).toIntStatistics();
+        assertEquals(15, statistics.summate());
+        assertEquals(3, statistics.average());
+        assertEquals(2, statistics.variance());
+        assertEquals(1, statistics.minimum());
+        assertEquals(5, statistics.maximum());
+        assertEquals(3, statistics.median());
+        assertEquals(List.of(1, 3, 5), statistics.percentiles(0.0, 50.0, 100.0));
+        assertEquals(30, statistics.summate((element) -> element * 2));
+        assertEquals(-1, statistics.maximum((element) -> -element));
+    }
+
+    @Test
+    public void fractionalKernels() {
+        DoubleStatistics<Double> statistics = Semantic.useFrom(new Double[]{1.0, 2.0, 3.0, 4.0}).toDoubleStatistics();
+        assertEquals(10.0, statistics.summate());
+        assertEquals(2.5, statistics.average());
+        assertEquals(5.0 / 3.0, statistics.variance(), 1e-12);
+        assertEquals(2.5, statistics.median());
+        assertEquals(List.of(2.0, 4.0), statistics.percentiles(50.0, 100.0));
+        assertEquals(List.of(4.0), statistics.percentiles((element) -> element * element, 50.0));
+        assertEquals(0.0, Semantic.useFrom(new Double[]{}).toDoubleStatistics().minimum());
+    }
+
+    @Test
+    public void concurrentReaders() throws Exception {
+        Long[] elements = new Long[10000];
+        for (int index = 0; index < elements.length; index++) {
+            elements[index] = (long) index;
+        }
+        LongStatistics<Long> statistics = Semantic.useFrom(elements).toLongStatistics();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int index = 0; index < 32; index++) {
+                futures.add(executor.submit(() -> statistics.summate()));
+            }
+            for (Future<Long> future : futures) {
+                assertEquals(49995000L, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void selectionMatchesSort() {
+        Random random = new Random(42L);
+        Long[] longs = new Long[5000];
+        Double[] doubles = new Double[longs.length];
+        BigInteger[] integers = new BigInteger[longs.length];
+        for (int index = 0; index < longs.length; index++) {
+            longs[index] = (long) random.nextInt(50);
+            doubles[index] = longs[index] / 4.0;
+            integers[index] = BigInteger.valueOf(longs[index]);
+        }
+        double[] percentiles = {0.0, 1.0, 10.0, 33.3, 50.0, 75.0, 99.9, 100.0};
+        Long[] sorted = longs.clone();
+        Arrays.sort(sorted);
+        List<Long> expected = new ArrayList<>();
+        for (double percentile : percentiles) {
+            expected.add(sorted[(int) Math.max(Math.ceil(percentile / 100.0 * sorted.length) - 1.0, 0.0)]);
+        }
+        assertEquals(expected, Semantic.useFrom(longs).toLongStatistics().percentiles(percentiles));
+        List<Double> fractions = new ArrayList<>();
+        List<BigInteger> bigs = new ArrayList<>();
+        for (Long value : expected) {
+            fractions.add(value / 4.0);
+            bigs.add(BigInteger.valueOf(value));
+        }
+        assertEquals(fractions, Semantic.useFrom(doubles).toDoubleStatistics().percentiles(percentiles));
+        assertEquals(bigs, Semantic.useFrom(integers).toBigIntegerStatistics().percentiles(percentiles));
+    }
+
+    @Test
+    public void percentileNearestRank() {
+        Long[] elements = new Long[10];
+        for (int index = 0; index < elements.length; index++) {
+            elements[index] = (long) (elements.length - index) * 10L;
+        }
+        LongStatistics<Long> statistics = Semantic.useFrom(elements).toLongStatistics();
+        assertEquals(List.of(10L, 10L, 20L, 50L, 60L, 90L, 100L, 100L), statistics.percentiles(0.0, 10.0, 10.1, 50.0, 50.1, 90.0, 90.1, 100.0));
+        assertEquals(55L, statistics.median());
+        assertEquals(40L, Semantic.useFrom(new Long[]{70L, 10L, 40L}).toLongStatistics().median());
+        assertEquals(List.of(0L, 0L), Semantic.useFrom(new Long[]{}).toLongStatistics().percentiles(50.0, 99.0));
+        assertThrows(IllegalArgumentException.class, () -> statistics.percentile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> statistics.percentile(100.1));
+        assertThrows(IllegalArgumentException.class, () -> statistics.percentile(Double.NaN));
+    }
+
+    @Test
+    public void summaryKeepsIntegralValuesExact() {
+        Long[] elements = new Long[1000];
+        for (int index = 0; index < elements.length; index++) {
+            elements[index] = (1L << 53) + index;
+        }
+        elements[500] = (1L << 60) + 1L;
+        long expected = 0L;
+        for (Long element : elements) {
+            expected += element;
+        }
+        Summary<Long> summary = Semantic.useFrom(elements).parallel(4).toLongStatistics().summary();
+        assertEquals(1000L, summary.count());
+        assertEquals(expected, summary.summate());
+        assertEquals(1L << 53, summary.minimum());
+        assertEquals((1L << 60) + 1L, summary.maximum());
+        Summary<Long> empty = Semantic.useFrom(new Long[]{}).toLongStatistics().summary();
+        assertEquals(0L, empty.summate());
+        assertEquals(0L, empty.maximum());
+        assertEquals(0.0, empty.variance());
+    }
+}
@@ -0,0 +1,80 @@
+package pers.eloyhere.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WindowCollectableTest {
+
+    private static List<List<Integer>> windows(List<Integer> values, int size, int step) {
+        List<List<Integer>> windows = new ArrayList<>();
+        for(int start = 0; start < values.size(); start += step){
+            windows.add(values.subList(start, Math.min(start + size, values.size())));
+        }
+        return windows;
+    }
+
+    @Test
+    public void extremaMatchEveryWindow() {
+        Random random = new Random(11L);
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < 500; i++){
+            values.add(random.nextInt(20));
+        }
+        for(int i = 20; i > 0; i--){
+            values.add(i);
+        }
+        int[][] shapes = {{1, 1}, {3, 1}, {7, 2}, {16, 5}, {4, 9}};
+        for(int[] shape : shapes){
+            List<List<Integer>> windows = windows(values, shape[0], shape[1]);
+            double[] minimum = new double[windows.size()];
+            double[] maximum = new double[windows.size()];
+            for(int position = 0; position < windows.size(); position++){
+                minimum[position] = windows.get(position).stream().mapToInt(Integer::intValue).min().getAsInt();
+                maximum[position] = windows.get(position).stream().mapToInt(Integer::intValue).max().getAsInt();
+            }
+            WindowCollectable<Integer> window = Semantic.useFrom(values).toWindow();
+            assertArrayEquals(minimum, window.slideMinimum(shape[0], shape[1], Integer::doubleValue).toArray());
+            assertArrayEquals(maximum, window.slideMaximum(shape[0], shape[1], Integer::doubleValue).toArray());
+        }
+    }
+
+    @Test
+    public void reduceKeepsOperandOrder() {
+        List<String> values = new ArrayList<>();
+        for(int i = 0; i < 40; i++){
+            values.add(Integer.toString(i, 36));
+        }
+        int[][] shapes = {{1, 1}, {3, 1}, {5, 3}, {8, 8}, {2, 5}};
+        for(int[] shape : shapes){
+            List<String> expected = new ArrayList<>();
+            for(int start = 0; start < values.size(); start += shape[1]){
+                expected.add(String.join("", values.subList(start, Math.min(start + shape[0], values.size()))));
+            }
+            assertEquals(expected, Semantic.useFrom(values).toWindow().slideReduce(shape[0], shape[1], String::concat).toOrdered().toList());
+        }
+    }
+
+    @Test
+    public void summateSurvivesEvictingLargeValues() {
+        List<Double> values = new ArrayList<>();
+        values.add(1e16);
+        for(int i = 0; i < 1000; i++){
+            values.add(1.0);
+        }
+        double[] sums = Semantic.useFrom(values).toWindow().slideSummate(3, 1, Double::doubleValue).toArray();
+        assertEquals(1e16 + 2.0, sums[0]);
+        for(int position = 1; position < 999; position++){
+            assertEquals(3.0, sums[position]);
+        }
+        assertEquals(1.0, sums[1000]);
+        double[] averages = Semantic.useFrom(values).toWindow().slideAverage(4, 2, Double::doubleValue).toArray();
+        assertEquals(1.0, averages[1]);
+        assertEquals(1.0, averages[averages.length - 1]);
+    }
+}